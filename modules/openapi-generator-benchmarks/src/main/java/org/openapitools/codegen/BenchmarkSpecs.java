@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.model.ModelMap;
+import org.openapitools.codegen.model.ModelsMap;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.SchemaReferenceIndex;
+import org.openapitools.codegen.utils.SemVer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The documents benchmarks run against, and the stages of {@link DefaultGenerator} preceding the stage benchmarked.
+ * <p>
+ * A document is either {@code synthetic-<schema count>}, generated by {@link SyntheticSpec}, or the file name of a
+ * specification under {@code specs/} on the classpath.
+ */
+final class BenchmarkSpecs {
+    static final String SYNTHETIC_PREFIX = "synthetic-";
+
+    private BenchmarkSpecs() {
+    }
+
+    /**
+     * @param spec the document, e.g. synthetic-1000 or petstore.yaml
+     * @return the contents of the document
+     */
+    static String contents(String spec) {
+        if (spec.startsWith(SYNTHETIC_PREFIX)) {
+            return SyntheticSpec.generate(Integer.parseInt(spec.substring(SYNTHETIC_PREFIX.length())));
+        }
+        try (InputStream is = BenchmarkSpecs.class.getClassLoader().getResourceAsStream("specs/" + spec)) {
+            if (is == null) {
+                throw new IllegalArgumentException("Unknown specification " + spec);
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses a document the way {@link org.openapitools.codegen.config.CodegenConfigurator} does.
+     *
+     * @param contents the contents of the document
+     * @return the parsed document
+     */
+    static OpenAPI parse(String contents) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setResolveResponses(true);
+        SwaggerParseResult result = new OpenAPIParser().readContents(contents, null, options);
+        if (result.getOpenAPI() == null) {
+            throw new IllegalStateException("Invalid specification: " + result.getMessages());
+        }
+        return result.getOpenAPI();
+    }
+
+    /**
+     * Normalizes a document with the normalizer rules of a generator.
+     *
+     * @param config  the generator
+     * @param openAPI the parsed document, modified in place
+     */
+    static void normalize(CodegenConfig config, OpenAPI openAPI) {
+        if (new SemVer(openAPI.getOpenapi()).atLeast("3.1.0")) {
+            config.openapiNormalizer().put("NORMALIZE_31SPEC", "true");
+        }
+        OpenAPINormalizer.createNormalizer(openAPI, config.openapiNormalizer()).normalize();
+    }
+
+    /**
+     * Moves the inline schemas of a document to components/schemas with the inline schema options of a generator.
+     *
+     * @param config  the generator
+     * @param openAPI the normalized document, modified in place
+     */
+    static void flatten(CodegenConfig config, OpenAPI openAPI) {
+        InlineModelResolver inlineModelResolver = new InlineModelResolver();
+        inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
+        inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
+        inlineModelResolver.flatten(openAPI);
+    }
+
+    /**
+     * Parses and pre-processes a document, and sets it on a generator, ready to convert its schemas and operations.
+     *
+     * @param config the generator, whose options are processed
+     * @param spec   the document
+     * @return the pre-processed document
+     */
+    static OpenAPI prepare(CodegenConfig config, String spec) {
+        OpenAPI openAPI = parse(contents(spec));
+        config.setOpenAPI(openAPI);
+        config.processOpts();
+        normalize(config, openAPI);
+        flatten(config, openAPI);
+        config.preprocessOpenAPI(openAPI);
+        config.setOpenAPI(openAPI);
+        SchemaReferenceIndex.build(openAPI);
+        return openAPI;
+    }
+
+    /**
+     * Converts every schema of a prepared document, grouped the way {@link DefaultGenerator} passes models to
+     * {@link CodegenConfig#updateAllModels(Map)}.
+     *
+     * @param config  the generator the document is set on
+     * @param openAPI the prepared document
+     * @return the models, by schema name
+     */
+    static Map<String, ModelsMap> models(CodegenConfig config, OpenAPI openAPI) {
+        Map<String, ModelsMap> models = new LinkedHashMap<>();
+        for (Map.Entry<String, Schema> entry : ModelUtils.getSchemas(openAPI).entrySet()) {
+            CodegenModel cm = config.fromModel(entry.getKey(), entry.getValue());
+            cm.removeSelfReferenceImport();
+
+            ModelMap mo = new ModelMap();
+            mo.setModel(cm);
+            mo.put("importPath", config.toModelImport(cm.classname));
+            ModelsMap objs = new ModelsMap();
+            objs.put("package", config.modelPackage());
+            objs.setModels(new ArrayList<>(Collections.singletonList(mo)));
+            objs.setImports(new ArrayList<>());
+            objs.put("classname", config.toModelName(entry.getKey()));
+            objs.putAll(config.additionalProperties());
+            models.put(entry.getKey(), objs);
+        }
+        return models;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCaches;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Benchmarks converting every schema of a document with {@link CodegenConfig#fromModel(String, Schema)}, and every
+ * operation with {@link CodegenConfig#fromOperation(String, String, Operation, java.util.List)}, on the threads
+ * the name caches of the generator are bound to, as {@link DefaultGenerator} does.
+ */
+public class CodegenBenchmark extends GeneratorBenchmark {
+    private CodegenConfig config;
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setUp() {
+        config = newConfig();
+        openAPI = BenchmarkSpecs.prepare(config, spec);
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        try (NameCaches.Scope ignored = config.getNameCaches().bind()) {
+            for (Map.Entry<String, Schema> entry : ModelUtils.getSchemas(openAPI).entrySet()) {
+                blackhole.consume(config.fromModel(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        if (openAPI.getPaths() == null) {
+            return;
+        }
+        try (NameCaches.Scope ignored = config.getNameCaches().bind()) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap().entrySet()) {
+                    blackhole.consume(config.fromOperation(path.getKey(), operation.getKey().name().toLowerCase(Locale.ROOT),
+                            operation.getValue(), path.getValue().getServers()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The parameters and settings shared by the benchmarks of the generation stages.
+ * <p>
+ * Each stage runs against synthetic documents of 100 to 10,000 schemas (see {@link SyntheticSpec}) and against
+ * real-world specifications, with the generator given by name. Both can be overridden on the command line, e.g.
+ * {@code -p spec=synthetic-5000 -p generator=typescript-axios}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public abstract class GeneratorBenchmark {
+    @Param({"synthetic-100", "synthetic-1000", "synthetic-10000",
+            "petstore.yaml", "petstore-with-fake-endpoints-models-for-testing.yaml", "issue_6726.yaml"})
+    public String spec;
+
+    @Param({"java"})
+    public String generator;
+
+    /**
+     * @return a new instance of the generator benchmarked
+     */
+    protected CodegenConfig newConfig() {
+        return CodegenConfigLoader.forName(generator);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.model.ModelsMap;
+import org.openapitools.codegen.utils.NameCaches;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Map;
+
+/**
+ * Benchmarks linking the models of a document with {@link CodegenConfig#updateAllModels(Map)}, and detecting circular
+ * references between them with {@link DefaultCodegen#setCircularReferences(Map)} alone. Both only ever set the same
+ * links and flags again, so the models are converted once, outside the measurement.
+ */
+public class ModelPostProcessingBenchmark extends GeneratorBenchmark {
+    private DefaultCodegen config;
+    private Map<String, ModelsMap> models;
+    private Map<String, CodegenModel> allModels;
+
+    @Setup
+    public void setUp() {
+        config = (DefaultCodegen) newConfig();
+        try (NameCaches.Scope ignored = config.getNameCaches().bind()) {
+            models = BenchmarkSpecs.models(config, BenchmarkSpecs.prepare(config, spec));
+            allModels = config.getAllModels(models);
+        }
+    }
+
+    @Benchmark
+    public Map<String, ModelsMap> updateAllModels() {
+        try (NameCaches.Scope ignored = config.getNameCaches().bind()) {
+            return config.updateAllModels(models);
+        }
+    }
+
+    @Benchmark
+    public Map<String, CodegenModel> setCircularReferences() {
+        config.setCircularReferences(allModels);
+        return allModels;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks parsing a document, with and without running the {@link OpenAPINormalizer} on it. The difference between
+ * both is the cost of normalizing.
+ */
+public class ParseBenchmark extends GeneratorBenchmark {
+    private String contents;
+    private CodegenConfig config;
+
+    @Setup
+    public void setUp() {
+        contents = BenchmarkSpecs.contents(spec);
+        config = newConfig();
+        config.processOpts();
+    }
+
+    @Benchmark
+    public OpenAPI parse() {
+        return BenchmarkSpecs.parse(contents);
+    }
+
+    @Benchmark
+    public OpenAPI parseAndNormalize() {
+        OpenAPI openAPI = BenchmarkSpecs.parse(contents);
+        BenchmarkSpecs.normalize(config, openAPI);
+        return openAPI;
+    }
+}
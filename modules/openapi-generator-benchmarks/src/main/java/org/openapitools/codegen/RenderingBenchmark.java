@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.model.ModelsMap;
+import org.openapitools.codegen.templating.CommonTemplateContentLocator;
+import org.openapitools.codegen.templating.HandlebarsEngineAdapter;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.openapitools.codegen.utils.NameCaches;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Benchmarks rendering the models of a document with the Mustache and Handlebars engines.
+ * <p>
+ * Both engines render equivalent templates under {@code benchmark/}, so their costs can be compared. The models are
+ * processed as {@link DefaultGenerator} does before rendering them, outside the measurement. Compiled templates are
+ * cached across invocations, as they are across the files of a run.
+ */
+public class RenderingBenchmark extends GeneratorBenchmark {
+    private static final String MODEL_TEMPLATE = "model.mustache";
+
+    @Param({"mustache", "handlebars"})
+    public String engine;
+
+    private CodegenConfig config;
+    private TemplatingEngineAdapter engineAdapter;
+    private TemplateManager templateManager;
+    private Map<String, ModelsMap> models;
+
+    @Setup
+    public void setUp() {
+        config = newConfig();
+        try (NameCaches.Scope ignored = config.getNameCaches().bind()) {
+            models = BenchmarkSpecs.models(config, BenchmarkSpecs.prepare(config, spec));
+            models = config.updateAllModels(models);
+            models = config.postProcessAllModels(models);
+        }
+
+        engineAdapter = "handlebars".equals(engine) ? new HandlebarsEngineAdapter() : new MustacheEngineAdapter();
+        templateManager = new TemplateManager(new TemplateManagerOptions(false, false), engineAdapter,
+                new TemplatePathLocator[]{new CommonTemplateContentLocator("benchmark")});
+    }
+
+    @Benchmark
+    public void render(Blackhole blackhole) throws IOException {
+        for (ModelsMap bundle : models.values()) {
+            blackhole.consume(engineAdapter.compileTemplate(templateManager, bundle, MODEL_TEMPLATE));
+        }
+    }
+}
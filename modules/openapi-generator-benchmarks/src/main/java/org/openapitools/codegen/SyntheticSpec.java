@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * Generates OpenAPI 3.0 documents of any number of schemas, shaped like the documents of large APIs.
+ * <p>
+ * Every schema has primitive, enum, array, map and inline object properties. Schemas reference each other in clusters
+ * of {@value #CLUSTER_SIZE}, each cluster forming a reference cycle, in which one schema extends another through allOf.
+ * Every tenth schema is also exposed as a resource with list, create, read, update and delete operations. The
+ * documents of a given size are always the same.
+ */
+final class SyntheticSpec {
+    static final int CLUSTER_SIZE = 10;
+    private static final int SCHEMAS_PER_RESOURCE = 10;
+    private static final int RESOURCES_PER_TAG = 50;
+
+    private SyntheticSpec() {
+    }
+
+    /**
+     * @param schemaCount the number of schemas in components/schemas
+     * @return the document, as JSON
+     */
+    static String generate(int schemaCount) {
+        ObjectNode spec = Json.mapper().createObjectNode();
+        spec.put("openapi", "3.0.3");
+        spec.putObject("info")
+                .put("title", "Synthetic API with " + schemaCount + " schemas")
+                .put("version", "1.0.0");
+        spec.putArray("servers").addObject().put("url", "https://api.example.com/v1");
+
+        ObjectNode paths = spec.putObject("paths");
+        ObjectNode schemas = spec.putObject("components").putObject("schemas");
+        for (int i = 0; i < schemaCount; i++) {
+            schemas.set(modelName(i), schema(i, schemaCount));
+            if (i % SCHEMAS_PER_RESOURCE == 0) {
+                addResource(paths, i);
+            }
+        }
+
+        try {
+            return Json.mapper().writeValueAsString(spec);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ObjectNode schema(int index, int schemaCount) {
+        ObjectNode schema = Json.mapper().createObjectNode();
+        schema.put("type", "object");
+        schema.put("description", "Synthetic model " + index);
+        schema.putArray("required").add("id").add("name");
+
+        ObjectNode properties = schema.putObject("properties");
+        properties.putObject("id").put("type", "integer").put("format", "int64");
+        properties.putObject("name").put("type", "string").put("maxLength", 255);
+        properties.putObject("createdAt").put("type", "string").put("format", "date-time");
+        ObjectNode status = properties.putObject("status").put("type", "string");
+        status.putArray("enum").add("active").add("inactive").add("pending");
+        properties.putObject("tags").put("type", "array").putObject("items").put("type", "string");
+        properties.putObject("attributes").put("type", "object").putObject("additionalProperties").put("type", "string");
+
+        // references stay within the cluster, which is a reference cycle
+        int clusterStart = index - index % CLUSTER_SIZE;
+        int clusterSize = Math.min(CLUSTER_SIZE, schemaCount - clusterStart);
+        int next = clusterStart + (index - clusterStart + 1) % clusterSize;
+        int related = clusterStart + ((index - clusterStart) * 7 + 3) % clusterSize;
+        properties.set("next", ref(next));
+        properties.putObject("related").put("type", "array").set("items", ref(related));
+
+        // inline object, extracted by the inline model resolver
+        ObjectNode details = properties.putObject("details").put("type", "object");
+        ObjectNode detailProperties = details.putObject("properties");
+        detailProperties.putObject("note").put("type", "string");
+        detailProperties.putObject("score").put("type", "number").put("format", "double");
+
+        // the parent is in the same cluster too, so each schema only reaches the schemas of its cluster
+        if (index % CLUSTER_SIZE == CLUSTER_SIZE / 2) {
+            ObjectNode composed = Json.mapper().createObjectNode();
+            composed.put("description", schema.get("description").asText());
+            ArrayNode allOf = composed.putArray("allOf");
+            allOf.add(ref(index - 1));
+            allOf.add(schema);
+            return composed;
+        }
+        return schema;
+    }
+
+    private static void addResource(ObjectNode paths, int index) {
+        String resource = "/resources" + index;
+        String tag = "group" + index / (SCHEMAS_PER_RESOURCE * RESOURCES_PER_TAG);
+
+        ObjectNode collection = paths.putObject(resource);
+        ObjectNode list = operation(collection, "get", "list" + modelName(index), tag);
+        ArrayNode listParameters = list.putArray("parameters");
+        queryParameter(listParameters, "limit", "integer");
+        queryParameter(listParameters, "offset", "integer");
+        queryParameter(listParameters, "filter", "string");
+        ObjectNode listContent = response(list, "200", "The " + modelName(index) + " list");
+        listContent.putObject("schema").put("type", "array").set("items", ref(index));
+
+        ObjectNode create = operation(collection, "post", "create" + modelName(index), tag);
+        requestBody(create, index);
+        response(create, "201", "Created").set("schema", ref(index));
+        // inline error object, extracted by the inline model resolver
+        ObjectNode error = response(create, "400", "Invalid input").putObject("schema").put("type", "object");
+        ObjectNode errorProperties = error.putObject("properties");
+        errorProperties.putObject("code").put("type", "integer").put("format", "int32");
+        errorProperties.putObject("message").put("type", "string");
+
+        ObjectNode item = paths.putObject(resource + "/{id}");
+        ObjectNode id = item.putArray("parameters").addObject()
+                .put("name", "id")
+                .put("in", "path")
+                .put("required", true);
+        id.putObject("schema").put("type", "integer").put("format", "int64");
+
+        response(operation(item, "get", "get" + modelName(index), tag), "200", "Found").set("schema", ref(index));
+        ObjectNode update = operation(item, "put", "update" + modelName(index), tag);
+        requestBody(update, index);
+        response(update, "200", "Updated").set("schema", ref(index));
+        operation(item, "delete", "delete" + modelName(index), tag)
+                .withObjectProperty("responses").putObject("204").put("description", "Deleted");
+    }
+
+    private static ObjectNode operation(ObjectNode pathItem, String method, String operationId, String tag) {
+        ObjectNode operation = pathItem.putObject(method);
+        operation.put("operationId", operationId);
+        operation.put("summary", operationId.toLowerCase(Locale.ROOT));
+        operation.putArray("tags").add(tag);
+        return operation;
+    }
+
+    private static void queryParameter(ArrayNode parameters, String name, String type) {
+        ObjectNode parameter = parameters.addObject().put("name", name).put("in", "query");
+        parameter.putObject("schema").put("type", type);
+    }
+
+    private static void requestBody(ObjectNode operation, int index) {
+        operation.putObject("requestBody").put("required", true)
+                .putObject("content").putObject("application/json").set("schema", ref(index));
+    }
+
+    private static ObjectNode response(ObjectNode operation, String status, String description) {
+        ObjectNode response = operation.withObjectProperty("responses").putObject(status).put("description", description);
+        return response.putObject("content").putObject("application/json");
+    }
+
+    private static ObjectNode ref(int index) {
+        return Json.mapper().createObjectNode().put("$ref", "#/components/schemas/" + modelName(index));
+    }
+
+    private static String modelName(int index) {
+        return "Model" + index;
+    }
+}
@@ -331,6 +331,16 @@ public class Generate extends OpenApiGeneratorCommand {
             description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--render-threads"},
+            title = "render threads",
+            description = "Number of threads used to render and write model, API and supporting files (1 by default). Templates and lambdas must be thread-safe when rendering on several threads.")
+    private Integer renderThreads;
+
+    @Option(name = {"--incremental"},
+            title = "Incremental generation",
+            description = "Only re-render files whose inputs (schema or tag operations, template and options) changed since the previous incremental run. Fingerprints are stored in .openapi-generator/MANIFEST.")
+    private Boolean incremental;
+
     @Override
     public void execute() {
         if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
@@ -498,6 +508,14 @@ public class Generate extends OpenApiGeneratorCommand {
             configurator.setEnableMinimalUpdate(minimalUpdate);
         }
 
+        if (renderThreads != null) {
+            configurator.setRenderThreads(renderThreads);
+        }
+
+        if (incremental != null) {
+            configurator.setIncremental(incremental);
+        }
+
         if (strictSpecBehavior != null) {
             configurator.setStrictSpecBehavior(strictSpecBehavior);
         }
@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.airlift.airline.Arguments;
 import io.airlift.airline.Command;
 import io.airlift.airline.Option;
@@ -37,6 +38,7 @@ import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.DynamicSettings;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.ParsedSpecCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +54,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,6 +63,9 @@ import java.util.stream.Stream;
 public class GenerateBatch extends OpenApiGeneratorCommand {
     private static AtomicInteger failures = new AtomicInteger(0);
     private static AtomicInteger successes = new AtomicInteger(0);
+    // time spent by all generators in each stage, summed over the threads
+    private static AtomicLong parseNanos = new AtomicLong(0);
+    private static AtomicLong generateNanos = new AtomicLong(0);
     private final Logger LOGGER = LoggerFactory.getLogger(GenerateBatch.class);
 
     @Option(name = {"-v", "--verbose"}, description = "verbose mode")
@@ -140,6 +146,10 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         SimpleModule module = getCustomDeserializationModel(includesDir);
         List<CodegenConfigurator> configurators = configs.stream().map(config -> CodegenConfigurator.fromFile(config, module)).collect(Collectors.toList());
 
+        // configurations often share their input spec, which is then read and resolved once for the batch
+        ParsedSpecCache parsedSpecCache = new ParsedSpecCache(configurators.size());
+        configurators.forEach(configurator -> configurator.setParsedSpecCache(parsedSpecCache));
+
         // it doesn't make sense to interleave INFO level logs, so limit these to only ERROR.
         LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
         Stream.of(Logger.ROOT_LOGGER_NAME, "io.swagger", "org.openapitools")
@@ -163,6 +173,10 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
 
             executor.awaitTermination(awaitFor, TimeUnit.MINUTES);
 
+            CacheStats specStats = parsedSpecCache.stats();
+            System.out.println(String.format(Locale.ROOT, "[TIMING] parse: %.1fs (%d specs parsed, %d reused), generate: %.1fs",
+                    parseNanos.get() / 1e9, specStats.missCount(), specStats.hitCount(), generateNanos.get() / 1e9));
+
             int failCount = failures.intValue();
             if (failCount > 0) {
                 System.err.println(String.format(Locale.ROOT, "[FAIL] Completed with %d failures, %d successes", failCount, successes.intValue()));
@@ -204,10 +218,11 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         @Override
         public void run() {
             String name = null;
-            try {
-                GlobalSettings.reset();
-
+            // each generator reads and writes its own settings, rather than those of the pooled thread
+            try (GlobalSettings.Scope ignored = GlobalSettings.bind(GlobalSettings.newSettings())) {
+                long start = System.nanoTime();
                 ClientOptInput opts = configurator.toClientOptInput();
+                parseNanos.addAndGet(System.nanoTime() - start);
                 CodegenConfig config = opts.getConfig();
                 name = config.getName();
 
@@ -224,7 +239,9 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
                 DefaultGenerator defaultGenerator = new DefaultGenerator();
                 defaultGenerator.opts(opts);
 
+                start = System.nanoTime();
                 defaultGenerator.generate();
+                generateNanos.addAndGet(System.nanoTime() - start);
 
                 System.out.printf(Locale.ROOT, "[%s] Finished generating %s…%n", Thread.currentThread().getName(), name);
                 successes.incrementAndGet();
@@ -1,5 +1,6 @@
 package org.openapitools.codegen.api;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.StringJoiner;
 
@@ -7,7 +8,7 @@ import java.util.StringJoiner;
  * TemplateDefinition is a type which defines the basics of a template file and target output location.
  */
 @SuppressWarnings("unused")
-public class TemplateDefinition {
+public class TemplateDefinition implements Serializable {
     private final String templateFile;
     private final String folder;
     private final String destinationFilename;
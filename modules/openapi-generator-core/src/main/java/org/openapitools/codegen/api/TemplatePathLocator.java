@@ -11,4 +11,14 @@ public interface TemplatePathLocator {
      * @return String Full template file path
      */
     String getFullTemplatePath(String relativeTemplateFile);
+
+    /**
+     * Describes the locations searched by this locator. Locators returning equal descriptions must resolve every
+     * relative template file to the same contents for the lifetime of the JVM.
+     *
+     * @return The description, or null if resolved contents may change (e.g. templates on the local file system)
+     */
+    default String getTemplateCacheScope() {
+        return null;
+    }
 }
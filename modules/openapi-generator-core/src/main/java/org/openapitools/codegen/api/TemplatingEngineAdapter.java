@@ -67,6 +67,16 @@ public interface TemplatingEngineAdapter {
     String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle,
                            String templateFile) throws IOException;
 
+    /**
+     * Discards the templates this adapter compiled and cached for the given cache scope, e.g. once the only executor
+     * using that scope has finished rendering.
+     *
+     * @param scope The {@link TemplatingExecutor#getTemplateCacheScope() template cache scope}
+     */
+    default void evictCompiledTemplates(String scope) {
+        // nothing is cached by default
+    }
+
     /**
      * Determines whether the template file with supported extensions exists. This may be on the filesystem,
      * external filesystem, or classpath (implementation is up to TemplatingGenerator).
@@ -23,4 +23,14 @@ public interface TemplatingExecutor {
      * @return The {@link Path} to the template
      */
     Path getFullTemplatePath(String name);
+
+    /**
+     * Returns a key describing where this executor resolves templates from. Executors returning equal keys must resolve
+     * every template name to the same contents, which allows templating engines to reuse compiled templates between them.
+     *
+     * @return The cache scope, or null if compiled templates must not be cached for this executor
+     */
+    default String getTemplateCacheScope() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -642,7 +642,7 @@ public final class GeneratorSettings implements Serializable {
      * {@code GeneratorSettings} builder static inner class.
      */
     @SuppressWarnings("UnusedReturnValue")
-    public static final class Builder {
+    public static final class Builder implements Serializable {
         private String generatorName;
         private String apiPackage;
         private String modelPackage;
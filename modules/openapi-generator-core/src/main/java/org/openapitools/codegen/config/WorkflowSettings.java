@@ -20,6 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -44,6 +45,8 @@ public class WorkflowSettings {
     public static final boolean DEFAULT_VALIDATE_SPEC = true;
     public static final boolean DEFAULT_ENABLE_POST_PROCESS_FILE = false;
     public static final boolean DEFAULT_ENABLE_MINIMAL_UPDATE = false;
+    public static final int DEFAULT_RENDER_THREADS = 1;
+    public static final boolean DEFAULT_INCREMENTAL = false;
     public static final boolean DEFAULT_STRICT_SPEC_BEHAVIOR = true;
     public static final boolean DEFAULT_GENERATE_ALIAS_AS_MODEL = false;
     public static final String DEFAULT_TEMPLATING_ENGINE_NAME = null; // this is set by the generator
@@ -59,6 +62,8 @@ public class WorkflowSettings {
     private boolean validateSpec = DEFAULT_VALIDATE_SPEC;
     private boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
     private boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
+    private int renderThreads = DEFAULT_RENDER_THREADS;
+    private boolean incremental = DEFAULT_INCREMENTAL;
     private boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
     private boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
     private String templateDir;
@@ -77,6 +82,8 @@ public class WorkflowSettings {
         this.validateSpec = builder.validateSpec;
         this.enablePostProcessFile = builder.enablePostProcessFile;
         this.enableMinimalUpdate = builder.enableMinimalUpdate;
+        this.renderThreads = builder.renderThreads;
+        this.incremental = builder.incremental;
         this.strictSpecBehavior = builder.strictSpecBehavior;
         this.templateDir = builder.templateDir;
         this.templatingEngineName = builder.templatingEngineName;
@@ -109,6 +116,8 @@ public class WorkflowSettings {
         builder.validateSpec = copy.isValidateSpec();
         builder.enablePostProcessFile = copy.isEnablePostProcessFile();
         builder.enableMinimalUpdate = copy.isEnableMinimalUpdate();
+        builder.renderThreads = copy.getRenderThreads();
+        builder.incremental = copy.isIncremental();
         builder.generateAliasAsModel = copy.isGenerateAliasAsModel();
         builder.strictSpecBehavior = copy.isStrictSpecBehavior();
         builder.templatingEngineName = copy.getTemplatingEngineName();
@@ -227,6 +236,26 @@ public class WorkflowSettings {
         return enableMinimalUpdate;
     }
 
+    /**
+     * Gets the number of threads used to render and write model, API and supporting files.
+     * A value of 1 renders all files sequentially on the calling thread.
+     *
+     * @return the number of render threads
+     */
+    public int getRenderThreads() {
+        return renderThreads;
+    }
+
+    /**
+     * Indicates whether or not the generation should only re-render files whose inputs (schema or operations, template
+     * and options) changed since the previous incremental run, as recorded in .openapi-generator/MANIFEST.
+     *
+     * @return <code>true</code> if incremental generation is enabled, otherwise <code>false</code>.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
     /**
      * Indicates whether or not the generation should convert aliases (primitives defined as schema for use within documents) as models.
      *
@@ -296,7 +325,7 @@ public class WorkflowSettings {
      * {@code WorkflowSettings} builder static inner class.
      */
     @SuppressWarnings("unused")
-    public static final class Builder {
+    public static final class Builder implements Serializable {
         private String inputSpec;
         private String outputDir = DEFAULT_OUTPUT_DIR;
         private Boolean verbose = DEFAULT_VERBOSE;
@@ -307,6 +336,8 @@ public class WorkflowSettings {
         private Boolean validateSpec = DEFAULT_VALIDATE_SPEC;
         private Boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
         private Boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
+        private Integer renderThreads = DEFAULT_RENDER_THREADS;
+        private Boolean incremental = DEFAULT_INCREMENTAL;
         private Boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
         private Boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
         private String templateDir;
@@ -436,6 +467,28 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code renderThreads} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param renderThreads the {@code renderThreads} to set
+         * @return a reference to this Builder
+         */
+        public Builder withRenderThreads(Integer renderThreads) {
+            this.renderThreads = renderThreads != null && renderThreads > 0 ? renderThreads : Integer.valueOf(DEFAULT_RENDER_THREADS);
+            return this;
+        }
+
+        /**
+         * Sets the {@code incremental} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param incremental the {@code incremental} to set
+         * @return a reference to this Builder
+         */
+        public Builder withIncremental(Boolean incremental) {
+            this.incremental = incremental != null ? incremental : Boolean.valueOf(DEFAULT_INCREMENTAL);
+            return this;
+        }
+
         /**
          * Sets the {@code strictSpecBehavior} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -580,6 +633,8 @@ public class WorkflowSettings {
                 ", validateSpec=" + validateSpec +
                 ", enablePostProcessFile=" + enablePostProcessFile +
                 ", enableMinimalUpdate=" + enableMinimalUpdate +
+                ", renderThreads=" + renderThreads +
+                ", incremental=" + incremental +
                 ", strictSpecBehavior=" + strictSpecBehavior +
                 ", templateDir='" + templateDir + '\'' +
                 ", templatingEngineName='" + templatingEngineName + '\'' +
@@ -602,6 +657,8 @@ public class WorkflowSettings {
                 isValidateSpec() == that.isValidateSpec() &&
                 isEnablePostProcessFile() == that.isEnablePostProcessFile() &&
                 isEnableMinimalUpdate() == that.isEnableMinimalUpdate() &&
+                getRenderThreads() == that.getRenderThreads() &&
+                isIncremental() == that.isIncremental() &&
                 isStrictSpecBehavior() == that.isStrictSpecBehavior() &&
                 isGenerateAliasAsModel() == that.isGenerateAliasAsModel() &&
                 Objects.equals(getInputSpec(), that.getInputSpec()) &&
@@ -626,6 +683,8 @@ public class WorkflowSettings {
                 isGenerateAliasAsModel(),
                 isEnablePostProcessFile(),
                 isEnableMinimalUpdate(),
+                getRenderThreads(),
+                isIncremental(),
                 isStrictSpecBehavior(),
                 getTemplateDir(),
                 getTemplatingEngineName(),
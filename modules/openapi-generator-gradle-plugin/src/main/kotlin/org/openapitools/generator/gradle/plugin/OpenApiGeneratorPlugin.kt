@@ -156,6 +156,9 @@ class OpenApiGeneratorPlugin : Plugin<Project> {
                     engine.set(generate.engine)
                     cleanupOutput.set(generate.cleanupOutput)
                     dryRun.set(generate.dryRun)
+                    incremental.set(generate.incremental)
+                    workerIsolation.set(generate.workerIsolation)
+                    workerMaxHeapSize.set(generate.workerMaxHeapSize)
                 }
             }
         }
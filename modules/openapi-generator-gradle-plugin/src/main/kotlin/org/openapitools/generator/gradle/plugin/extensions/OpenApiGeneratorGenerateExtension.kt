@@ -407,6 +407,21 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
      */
     val dryRun = project.objects.property<Boolean>()
 
+    /**
+     * Defines whether only files whose inputs changed since the previous incremental run should be re-rendered.
+     */
+    val incremental = project.objects.property<Boolean>()
+
+    /**
+     * Runs generation in a worker of the Gradle Worker API, with the given isolation: none, classLoader or process.
+     */
+    val workerIsolation = project.objects.property<String>()
+
+    /**
+     * The maximum heap size of the worker daemon, when workerIsolation is process.
+     */
+    val workerMaxHeapSize = project.objects.property<String>()
+
     init {
         applyDefaults()
     }
@@ -430,5 +445,6 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
         generateAliasAsModel.set(false)
         cleanupOutput.set(false)
         dryRun.set(false)
+        incremental.set(false)
     }
 }
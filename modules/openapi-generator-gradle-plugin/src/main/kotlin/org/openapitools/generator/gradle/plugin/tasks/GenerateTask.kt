@@ -40,8 +40,8 @@ import org.gradle.kotlin.dsl.listProperty
 import org.gradle.kotlin.dsl.mapProperty
 import org.gradle.kotlin.dsl.property
 import org.gradle.util.GradleVersion
+import org.gradle.workers.WorkerExecutor
 import org.openapitools.codegen.CodegenConstants
-import org.openapitools.codegen.DefaultGenerator
 import org.openapitools.codegen.config.CodegenConfigurator
 import org.openapitools.codegen.config.GlobalSettings
 import org.openapitools.codegen.config.MergedSpecBuilder
@@ -597,6 +597,34 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
     @get:Input
     val dryRun = project.objects.property<Boolean>()
 
+    /**
+     * Defines whether only files whose inputs changed since the previous incremental run should be re-rendered.
+     */
+    @get:Optional
+    @get:Input
+    val incremental = project.objects.property<Boolean>()
+
+    /**
+     * Runs generation in a worker of the Gradle Worker API rather than in the task itself, so that the generations of
+     * several tasks may run at once (also in the same project). The isolation of the worker is one of:
+     *
+     * - `none`: a thread of the Gradle daemon
+     * - `classLoader`: a thread of the Gradle daemon, with an isolated classloader
+     * - `process`: a worker daemon, reused by subsequent generations with the same settings
+     *
+     * When not set, generation runs in the task.
+     */
+    @get:Optional
+    @get:Internal
+    val workerIsolation = project.objects.property<String>()
+
+    /**
+     * The maximum heap size of the worker daemon (e.g. `1g`), when [workerIsolation] is `process`.
+     */
+    @get:Optional
+    @get:Internal
+    val workerMaxHeapSize = project.objects.property<String>()
+
     private fun <T> Property<T>.ifNotEmpty(block: Property<T>.(T) -> Unit) {
         if (isPresent) {
             when (val value = get()) {
@@ -616,6 +644,30 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
         }
     }
 
+    private fun submitGeneration(configurator: CodegenConfigurator, configOptions: Map<String, String>, dryRun: Boolean) {
+        val workerExecutor = services.get(WorkerExecutor::class.java)
+        val workQueue = when (val isolation = workerIsolation.get()) {
+            "none" -> workerExecutor.noIsolation()
+            "classLoader" -> workerExecutor.classLoaderIsolation()
+            "process" -> workerExecutor.processIsolation {
+                workerMaxHeapSize.ifNotEmpty { value ->
+                    forkOptions.maxHeapSize = value
+                }
+            }
+            else -> throw GradleException("Unsupported workerIsolation '$isolation', expected one of none, classLoader, process.")
+        }
+
+        // the settings of this thread are reset once the work is submitted, the worker binds a copy of them
+        val settings = GlobalSettings.copy()
+        workQueue.submit(GenerateWorkAction::class.java) {
+            this.configurator.set(configurator)
+            this.globalSettings.set(settings)
+            this.configOptions.set(configOptions)
+            this.dryRun.set(dryRun)
+            this.outputDir.set(this@GenerateTask.outputDir)
+        }
+    }
+
     @Suppress("unused")
     @TaskAction
     fun doWork() {
@@ -719,6 +771,10 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
                 configurator.setSkipOverwrite(value)
             }
 
+            incremental.ifNotEmpty { value ->
+                configurator.setIncremental(value)
+            }
+
             generatorName.ifNotEmpty { value ->
                 configurator.setGeneratorName(value)
             }
@@ -955,27 +1011,17 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
                 dryRunSetting = setting
             }
 
-            val clientOptInput = configurator.toClientOptInput()
-            val codegenConfig = clientOptInput.config
+            val userSpecifiedConfigOptions = configOptions.getOrElse(emptyMap())
 
-            if (configOptions.isPresent) {
-                val userSpecifiedConfigOptions = configOptions.get()
-                codegenConfig.cliOptions().forEach {
-                    if (userSpecifiedConfigOptions.containsKey(it.opt)) {
-                        clientOptInput.config.additionalProperties()[it.opt] = userSpecifiedConfigOptions[it.opt]
-                    }
-                }
-            }
-
-            try {
+            if (workerIsolation.isPresent) {
+                submitGeneration(configurator, userSpecifiedConfigOptions, dryRunSetting)
+            } else {
                 val out = services.get(StyledTextOutputFactory::class.java).create("openapi")
                 out.withStyle(StyledTextOutput.Style.Success)
 
-                DefaultGenerator(dryRunSetting).opts(clientOptInput).generate()
+                generate(configurator, userSpecifiedConfigOptions, dryRunSetting)
 
                 out.println("Successfully generated code to ${outputDir.get()}")
-            } catch (e: RuntimeException) {
-                throw GradleException("Code generation failed.", e)
             }
         } finally {
             GlobalSettings.reset()
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.generator.gradle.plugin.tasks
+
+import java.util.Properties
+import org.gradle.api.GradleException
+import org.gradle.api.logging.Logging
+import org.gradle.api.provider.MapProperty
+import org.gradle.api.provider.Property
+import org.gradle.workers.WorkAction
+import org.gradle.workers.WorkParameters
+import org.openapitools.codegen.DefaultGenerator
+import org.openapitools.codegen.config.CodegenConfigurator
+import org.openapitools.codegen.config.GlobalSettings
+
+/**
+ * The parameters of a [GenerateWorkAction], set from a [GenerateTask].
+ */
+interface GenerateWorkParameters : WorkParameters {
+    /**
+     * The configurator of the generation, as configured by the task.
+     */
+    val configurator: Property<CodegenConfigurator>
+
+    /**
+     * The global settings of the task, bound to the worker thread during generation.
+     */
+    val globalSettings: Property<Properties>
+
+    val configOptions: MapProperty<String, String>
+
+    val dryRun: Property<Boolean>
+
+    val outputDir: Property<String>
+}
+
+/**
+ * Generates the code of a [GenerateTask] in a worker of the Gradle Worker API (see [GenerateTask.workerIsolation]),
+ * so that Gradle can run several generations at once.
+ */
+abstract class GenerateWorkAction : WorkAction<GenerateWorkParameters> {
+
+    override fun execute() {
+        GlobalSettings.bind(parameters.globalSettings.get()).use {
+            generate(parameters.configurator.get(), parameters.configOptions.get(), parameters.dryRun.get())
+        }
+        Logging.getLogger(GenerateWorkAction::class.java)
+            .lifecycle("Successfully generated code to ${parameters.outputDir.get()}")
+    }
+}
+
+/**
+ * Generates code as configured by the configurator, with the config options of the generator.
+ */
+internal fun generate(configurator: CodegenConfigurator, configOptions: Map<String, String>, dryRun: Boolean) {
+    val clientOptInput = configurator.toClientOptInput()
+    val codegenConfig = clientOptInput.config
+
+    codegenConfig.cliOptions().forEach {
+        if (configOptions.containsKey(it.opt)) {
+            codegenConfig.additionalProperties()[it.opt] = configOptions[it.opt]
+        }
+    }
+
+    try {
+        DefaultGenerator(dryRun).opts(clientOptInput).generate()
+    } catch (e: RuntimeException) {
+        throw GradleException("Code generation failed.", e)
+    }
+}
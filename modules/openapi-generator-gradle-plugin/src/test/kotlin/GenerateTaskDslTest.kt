@@ -398,6 +398,61 @@ class GenerateTaskDslTest : TestBase() {
         assertTrue(resultThirdRun.output.contains("Skipping task ':openApiGenerate' as it is up-to-date."), "Task of third run should not require rebuild")
     }
 
+    @Test
+    fun `openApiGenerate should generate in workers`() {
+        // Arrange
+        val projectFiles = mapOf(
+            "spec.yaml" to javaClass.classLoader.getResourceAsStream("specs/petstore-v3.0.yaml")
+        )
+        withProject("""
+            plugins {
+              id 'org.openapi.generator'
+            }
+            openApiGenerate {
+                generatorName = "kotlin"
+                inputSpec = file("spec.yaml").absolutePath
+                outputDir = file("build/kotlin").absolutePath
+                workerIsolation = "classLoader"
+            }
+            tasks.register('openApiGenerateJava', org.openapitools.generator.gradle.plugin.tasks.GenerateTask) {
+                generatorName = "java"
+                inputSpec = file("spec.yaml").absolutePath
+                outputDir = file("build/java").absolutePath
+                workerIsolation = "classLoader"
+            }
+        """.trimIndent(), projectFiles)
+
+        // Act
+        val result = GradleRunner.create()
+            .withProjectDir(temp)
+            .withArguments("openApiGenerate", "openApiGenerateJava", "--build-cache")
+            .withPluginClasspath()
+            .build()
+
+        // delete the build directory from the last run
+        File(temp, "build").deleteRecursively()
+
+        val resultSecondRun = GradleRunner.create()
+            .withProjectDir(temp)
+            .withArguments("openApiGenerate", "openApiGenerateJava", "--build-cache")
+            .withPluginClasspath()
+            .build()
+
+        // Assert
+        assertTrue(result.output.contains("Successfully generated code to"), "User friendly generate notice is missing.")
+        listOf(
+            "build/kotlin/src/main/kotlin/org/openapitools/client/models/Pet.kt",
+            "build/java/src/main/java/org/openapitools/client/model/Pet.java"
+        ).map {
+            val f = File(temp, it)
+            assertTrue(f.exists() && f.isFile, "An expected file was not generated when invoking the generation: $f")
+        }
+        listOf(":openApiGenerate", ":openApiGenerateJava").forEach {
+            assertEquals(TaskOutcome.SUCCESS, result.task(it)?.outcome)
+            assertEquals(TaskOutcome.FROM_CACHE, resultSecondRun.task(it)?.outcome)
+        }
+    }
+
     @Test
     fun `openApiValidate should fail on invalid spec`() {
         // Arrange
@@ -327,6 +327,19 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "minimalUpdate", property = "openapi.generator.maven.plugin.minimalUpdate")
     private Boolean minimalUpdate;
 
+    /**
+     * Number of threads used to render and write model, API and supporting files.
+     */
+    @Parameter(name = "renderThreads", property = "openapi.generator.maven.plugin.renderThreads")
+    private Integer renderThreads;
+
+    /**
+     * Only re-render files whose inputs (schema or tag operations, template and options) changed since the previous
+     * incremental run.
+     */
+    @Parameter(name = "incremental", property = "openapi.generator.maven.plugin.incremental")
+    private Boolean incremental;
+
     /**
      * A map of language-specific parameters as passed with the -c option to the command line
      */
@@ -708,6 +721,14 @@ public class CodeGenMojo extends AbstractMojo {
                 configurator.setEnableMinimalUpdate(minimalUpdate);
             }
 
+            if (renderThreads != null) {
+                configurator.setRenderThreads(renderThreads);
+            }
+
+            if (incremental != null) {
+                configurator.setIncremental(incremental);
+            }
+
             if (isNotEmpty(generatorName)) {
                 configurator.setGeneratorName(generatorName);
             } else {
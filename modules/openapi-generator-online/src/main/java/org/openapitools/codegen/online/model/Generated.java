@@ -24,5 +24,6 @@ import lombok.Setter;
 @Setter
 public class Generated {
     private String filename;
+    private byte[] content;
     private String friendlyName;
 }
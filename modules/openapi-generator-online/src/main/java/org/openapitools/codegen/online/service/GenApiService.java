@@ -17,7 +17,6 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.CodegenConfig;
@@ -28,6 +27,7 @@ import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
@@ -43,6 +43,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
@@ -52,7 +53,6 @@ public class GenApiService implements GenApiDelegate {
 
     private static List<String> clients = new ArrayList<>();
     private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
 
     static {
         List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
@@ -72,6 +72,18 @@ public class GenApiService implements GenApiDelegate {
     @Autowired
     private NativeWebRequest request;
 
+    @Autowired
+    private GeneratedArtifactStore artifactStore;
+
+    @Autowired
+    private ParsedSpecCache specCache;
+
+    /**
+     * Zip the generated files in memory, rather than writing them to a temporary folder first.
+     */
+    @Value("${openapi-generator.zip-in-memory:false}")
+    private boolean zipInMemory;
+
     @Override
     public Optional<NativeWebRequest> getRequest() {
         return Optional.ofNullable(request);
@@ -79,25 +91,27 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
+        Generated g = artifactStore.get(fileId);
+        if (g == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
+        }
 
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
         ByteArrayResource resource;
-        try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
-        }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
+        if (g.getContent() != null) {
+            resource = new ByteArrayResource(g.getContent());
+        } else {
+            File file = new File(g.getFilename());
+            Path path = Paths.get(file.getAbsolutePath());
+            try {
+                resource = new ByteArrayResource(Files.readAllBytes(path));
+            } catch (FileNotFoundException | NoSuchFileException e) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
+            } catch (IOException e) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
+            }
         }
+        // a bundle can be downloaded once, its files are deleted by the store
+        artifactStore.remove(fileId);
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.valueOf("application/zip"))
@@ -110,8 +124,8 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+        Generated generated = Generator.generateClient(language, generatorInput, specCache, zipInMemory);
+        return getResponse(generated, language + "-client");
     }
 
     @Override
@@ -151,13 +165,12 @@ public class GenApiService implements GenApiDelegate {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        Generated generated = Generator.generateServer(framework, generatorInput, specCache, zipInMemory);
 
-        return getResponse(filename, framework + "-server");
+        return getResponse(generated, framework + "-server");
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    private ResponseEntity<ResponseCode> getResponse(Generated generated, String friendlyName) {
         String host = System.getenv("GENERATOR_HOST");
 
         UriComponentsBuilder uriBuilder;
@@ -167,13 +180,9 @@ public class GenApiService implements GenApiDelegate {
             uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
         }
 
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
+        if (generated != null) {
+            generated.setFriendlyName(friendlyName);
+            String code = artifactStore.put(generated);
             String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
             return ResponseEntity.ok().body(new ResponseCode(code, link));
         } else {
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.online.model.Generated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the generated bundles until they are downloaded, for a limited time and up to a maximum number of bundles.
+ * <p>
+ * Bundles are either held in memory or written to a temporary folder, which is deleted when the bundle is removed
+ * from the store, whether it has been downloaded, has expired or has been evicted to make room for newer bundles.
+ * The counters of the store are exposed as JMX attributes when JMX is enabled (spring.jmx.enabled=true).
+ */
+@Component
+@ManagedResource(objectName = "org.openapitools.codegen.online:name=GeneratedArtifactStore")
+public class GeneratedArtifactStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedArtifactStore.class);
+
+    private final Cache<String, Generated> cache;
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final AtomicLong deletedBundles = new AtomicLong();
+
+    public GeneratedArtifactStore(@Value("${openapi-generator.artifacts.maximum-size:1000}") long maximumSize,
+                                  @Value("${openapi-generator.artifacts.expire-after-write:30m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                // expired bundles are removed from disk even if the store is not accessed in the meantime
+                .scheduler(Scheduler.systemScheduler())
+                // delete the files of a downloaded bundle before the download request completes
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Adds a bundle to the store.
+     *
+     * @param generated The bundle
+     * @return The code under which the bundle can be retrieved
+     */
+    public String put(Generated generated) {
+        String code = UUID.randomUUID().toString();
+        if (generated.getContent() != null) {
+            retainedBytes.addAndGet(generated.getContent().length);
+        }
+        cache.put(code, generated);
+        return code;
+    }
+
+    /**
+     * @param code The code of the bundle
+     * @return The bundle, or null if it is unknown, has expired or has been evicted
+     */
+    public Generated get(String code) {
+        return cache.getIfPresent(code);
+    }
+
+    /**
+     * Removes a bundle from the store, deleting its files.
+     *
+     * @param code The code of the bundle
+     */
+    public void remove(String code) {
+        cache.invalidate(code);
+    }
+
+    private void onRemoval(String code, Generated generated, RemovalCause cause) {
+        if (generated == null) {
+            return;
+        }
+        LOGGER.debug("removing bundle {} ({})", code, cause);
+        if (generated.getContent() != null) {
+            retainedBytes.addAndGet(-generated.getContent().length);
+        }
+        if (generated.getFilename() != null) {
+            File folder = new File(generated.getFilename()).getParentFile();
+            try {
+                FileUtils.deleteDirectory(folder);
+                deletedBundles.incrementAndGet();
+            } catch (IOException e) {
+                LOGGER.warn("failed to delete folder {}", folder.getAbsolutePath(), e);
+            }
+        }
+    }
+
+    /**
+     * @return A snapshot of the hit/miss/eviction counters of the store
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @ManagedAttribute(description = "Approximate number of bundles in the store")
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    @ManagedAttribute(description = "Number of bytes of the bundles held in memory")
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    @ManagedAttribute(description = "Number of bundles found in the store")
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    @ManagedAttribute(description = "Number of bundles requested which were unknown, expired or evicted")
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    @ManagedAttribute(description = "Number of bundles removed before being downloaded, because they expired or to make room")
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    @ManagedAttribute(description = "Number of bundle folders deleted from disk")
+    public long getDeletedBundles() {
+        return deletedBundles.get();
+    }
+
+    /**
+     * Performs the pending removals of expired and evicted bundles.
+     */
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+}
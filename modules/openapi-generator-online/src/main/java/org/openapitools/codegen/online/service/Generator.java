@@ -22,7 +22,10 @@ import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
 import org.openapitools.codegen.*;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,11 +35,18 @@ import org.springframework.web.server.ResponseStatusException;
 import java.io.File;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Generator {
     private static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
+    private static final Map<String, Map<String, CliOption>> OPTIONS = new ConcurrentHashMap<>();
 
     public static Map<String, CliOption> getOptions(String language) {
+        // the options of a generator do not change, unknown generators are not cached
+        return OPTIONS.computeIfAbsent(language, Generator::loadOptions);
+    }
+
+    private static Map<String, CliOption> loadOptions(String language) {
         CodegenConfig config;
         try {
             config = CodegenConfigLoader.forName(language);
@@ -48,7 +58,7 @@ public class Generator {
         for (CliOption option : config.cliOptions()) {
             map.put(option.getOpt(), option);
         }
-        return map;
+        return Collections.unmodifiableMap(map);
     }
 
     public enum Type {
@@ -65,21 +75,28 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.CLIENT);
+    public static Generated generateClient(String language, GeneratorInput opts, ParsedSpecCache specs, boolean inMemory) {
+        return generate(language, opts, Type.CLIENT, specs, inMemory);
     }
 
-    public static String generateServer(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.SERVER);
+    public static Generated generateServer(String language, GeneratorInput opts, ParsedSpecCache specs, boolean inMemory) {
+        return generate(language, opts, Type.SERVER, specs, inMemory);
+    }
+
+    private static Generated generate(String language, GeneratorInput opts, Type type, ParsedSpecCache specs, boolean inMemory) {
+        // each request reads and writes its own settings, rather than those of the pooled request thread
+        try (GlobalSettings.Scope ignored = GlobalSettings.bind(GlobalSettings.newSettings())) {
+            return generateBundle(language, opts, type, specs, inMemory);
+        }
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type) {
+    private static Generated generateBundle(String language, GeneratorInput opts, Type type, ParsedSpecCache specs, boolean inMemory) {
         LOGGER.debug(String.format(Locale.ROOT, "generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
         }
         JsonNode node = opts.getSpec();
-        if (node != null && "{}".equals(node.toString())) {
+        if (node != null && node.isObject() && node.isEmpty()) {
             LOGGER.debug("ignoring empty spec");
             node = null;
         }
@@ -98,13 +115,10 @@ public class Generator {
             } else {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No OpenAPI specification was supplied");
             }
-        } else if (opts.getAuthorizationValue() != null) {
-            List<AuthorizationValue> authorizationValues = new ArrayList<>();
-            authorizationValues.add(opts.getAuthorizationValue());
-            openapi = new OpenAPIParser().readContents(node.toString(), authorizationValues, parseOptions).getOpenAPI();
-
         } else {
-            openapi = new OpenAPIParser().readContents(node.toString(), null, parseOptions).getOpenAPI();
+            JsonNode spec = node;
+            // the spec is only parsed once for all the targets generated from it
+            openapi = specs.get(spec, opts.getAuthorizationValue(), () -> parseContents(spec, opts.getAuthorizationValue(), parseOptions));
         }
         if (openapi == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The OpenAPI specification supplied was not valid");
@@ -116,8 +130,6 @@ public class Generator {
         String destPath = language + "-" + type.getTypeName();
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
 
         clientOptInput.openAPI(openapi);
 
@@ -143,38 +155,64 @@ public class Generator {
             }
         }
 
+        File tmpFolder = getTmpFolder();
+        String outputFolder = tmpFolder.getAbsolutePath() + File.separator + destPath;
+        String outputFilename = outputFolder + "-bundle.zip";
         codegenConfig.setOutputDir(outputFolder);
 
         clientOptInput.config(codegenConfig);
 
+        Generated generated = new Generated();
         try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to {}", outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
+            if (inMemory) {
+                InMemoryGenerator generator = new InMemoryGenerator();
+                generator.opts(clientOptInput).generate();
+                if (generator.getContents().isEmpty()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "A target generation was attempted, but no files were created!");
+                }
+                generated.setContent(new ZipUtil().compressContents(destPath, generator.getContents()));
             } else {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                        "A target generation was attempted, but no files were created!");
-            }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
+                List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
+                if (files.size() > 0) {
+                    List<File> filesToAdd = new ArrayList<>();
+                    LOGGER.debug("adding to {}", outputFolder);
+                    filesToAdd.add(new File(outputFolder));
+                    ZipUtil zip = new ZipUtil();
+                    zip.compressFiles(filesToAdd, outputFilename);
+                    generated.setFilename(outputFilename);
+                } else {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "A target generation was attempted, but no files were created!");
                 }
             }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
-            }
+        } catch (ResponseStatusException e) {
+            deleteFolder(tmpFolder);
+            throw e;
         } catch (Exception e) {
+            deleteFolder(tmpFolder);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
         }
-        return outputFilename;
+        // only the zip file is kept until the bundle is downloaded
+        deleteFolder(inMemory ? tmpFolder : new File(outputFolder));
+        return generated;
+    }
+
+    private static OpenAPI parseContents(JsonNode spec, AuthorizationValue authorizationValue, ParseOptions parseOptions) {
+        List<AuthorizationValue> authorizationValues = null;
+        if (authorizationValue != null) {
+            authorizationValues = new ArrayList<>();
+            authorizationValues.add(authorizationValue);
+        }
+        return new OpenAPIParser().readContents(spec.toString(), authorizationValues, parseOptions).getOpenAPI();
+    }
+
+    private static void deleteFolder(File folder) {
+        try {
+            FileUtils.deleteDirectory(folder);
+        } catch (Exception e) {
+            LOGGER.error("unable to delete folder " + folder.getAbsolutePath(), e);
+        }
     }
 
     private static File getTmpFolder() {
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.templating.CommonTemplateContentLocator;
+import org.openapitools.codegen.templating.GeneratorTemplateContentLocator;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A generator which keeps the rendered files in memory instead of writing them to the output directory.
+ * <p>
+ * The contents are keyed by their path relative to the output directory, with '/' as separator, so that they can be
+ * zipped as they are. Directories may still be created in the output directory, but no file is written to it.
+ */
+class InMemoryGenerator extends DefaultGenerator {
+    private final SortedMap<String, byte[]> contents = new ConcurrentSkipListMap<>();
+    private Path outputDir;
+
+    @Override
+    public org.openapitools.codegen.Generator opts(ClientOptInput opts) {
+        super.opts(opts);
+        CodegenConfig config = opts.getConfig();
+        this.outputDir = Paths.get(config.getOutputDir()).toAbsolutePath().normalize();
+        // the templating engine has been prepared for the generator (e.g. its compiler) by DefaultGenerator already
+        this.templateProcessor = new InMemoryTemplateManager(
+                new TemplateManagerOptions(false, false),
+                config,
+                new TemplatePathLocator[]{new GeneratorTemplateContentLocator(config), new CommonTemplateContentLocator()}
+        );
+        return this;
+    }
+
+    /**
+     * @return The rendered files by their path relative to the output directory, in path order
+     */
+    SortedMap<String, byte[]> getContents() {
+        return Collections.unmodifiableSortedMap(contents);
+    }
+
+    private class InMemoryTemplateManager extends TemplateManager {
+        InMemoryTemplateManager(TemplateManagerOptions options, CodegenConfig config, TemplatePathLocator[] templateLoaders) {
+            super(options, config.getTemplatingEngine(), templateLoaders);
+        }
+
+        @Override
+        public File writeToFile(String filename, byte[] contents) throws IOException {
+            Path path = Paths.get(filename).toAbsolutePath().normalize();
+            if (!path.startsWith(outputDir)) {
+                throw new IOException("Cannot write " + filename + " outside of the output directory " + outputDir);
+            }
+            String name = outputDir.relativize(path).toString().replace(File.separatorChar, '/');
+            InMemoryGenerator.this.contents.put(name, contents);
+            return path.toFile();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import org.openapitools.codegen.utils.OpenAPICopier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the parsed and resolved specifications supplied inline, keyed by the SHA-256 hash of their content, so that
+ * generating several targets for the same specification parses it once.
+ * <p>
+ * Generation modifies the specification (e.g. by normalizing it and flattening inline schemas), so the cached
+ * specifications are never handed out: each request gets its own {@link OpenAPICopier deep copy}, which is the same
+ * as the parsed specification. Deserializing the specification again would not be, e.g. the parser adds the default
+ * style of the parameters of specifications converted from Swagger 2.0.
+ */
+@Component
+@ManagedResource(objectName = "org.openapitools.codegen.online:name=ParsedSpecCache")
+public class ParsedSpecCache {
+    private static final ObjectMapper HASH_MAPPER = new ObjectMapper();
+
+    private final Cache<String, OpenAPI> cache;
+
+    public ParsedSpecCache(@Value("${openapi-generator.specs.maximum-size:100}") long maximumSize,
+                           @Value("${openapi-generator.specs.expire-after-access:10m}") Duration expireAfterAccess) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Gets a copy of the parsed specification, parsing it on a cache miss.
+     *
+     * @param spec               The specification supplied inline
+     * @param authorizationValue The authorization used to resolve remote references, or null
+     * @param parse              Parses and resolves the specification, returning null if it is not valid
+     * @return A copy of the parsed specification which the caller may modify, or null if it is not valid
+     */
+    public OpenAPI get(JsonNode spec, AuthorizationValue authorizationValue, Supplier<OpenAPI> parse) {
+        OpenAPI parsed = cache.get(key(spec, authorizationValue), key -> parse.get());
+        return parsed == null ? null : OpenAPICopier.copy(parsed);
+    }
+
+    private static String key(JsonNode spec, AuthorizationValue authorizationValue) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        // hash the content as it is serialized, without building a string of it
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            HASH_MAPPER.writeValue(out, spec);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to hash the specification", e);
+        }
+        if (authorizationValue != null) {
+            for (String value : new String[]{authorizationValue.getType(), authorizationValue.getKeyName(), authorizationValue.getValue()}) {
+                digest.update((byte) 0);
+                if (value != null) {
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * @return A snapshot of the hit/miss/eviction counters of the cache
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @ManagedAttribute(description = "Approximate number of parsed specifications in the cache")
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    @ManagedAttribute(description = "Number of requests which did not parse the specification")
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    @ManagedAttribute(description = "Number of requests which parsed the specification")
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+}
@@ -19,6 +19,7 @@ package org.openapitools.codegen.online.service;
 
 import java.io.*;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -60,6 +61,26 @@ public class ZipUtil {
         }
     }
 
+    /**
+     * Compresses in-memory file contents to a zip archive.
+     *
+     * @param folder   The folder of the entries in the archive
+     * @param contents The file contents by their path relative to the folder, with '/' as separator
+     * @return The bytes of the zip archive
+     * @throws IOException if IO exception occurs
+     */
+    public byte[] compressContents(String folder, Map<String, byte[]> contents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+                zos.putNextEntry(new ZipEntry(folder + "/" + entry.getKey()));
+                zos.write(entry.getValue());
+                zos.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
     /**
      * Adds a directory to the current zip output stream.
      *
@@ -126,6 +126,31 @@ public class GenApiControllerTest {
                 .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, not(0)));
     }
 
+    @Test
+    public void downloadOnlyOnce() throws Exception {
+        String spec = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"ping\",\"version\":\"1.0\"},"
+                + "\"paths\":{\"/ping\":{\"get\":{\"operationId\":\"ping\",\"responses\":{\"200\":{\"description\":\"OK\"}}}}}}";
+        String result = mockMvc.perform(post("http://test.com:1234/api/gen/clients/java")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"spec\": " + spec + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String code = new ObjectMapper().readValue(result, ResponseCode.class).getCode();
+
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"));
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void downloadUnknown() throws Exception {
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/00000000-0000-4000-8000-000000000000"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void generateClientWithInvalidOpenAPIUrl() throws Exception {
         final String invalidOpenAPIUrl = "https://[::1]/invalid_openapi.json";
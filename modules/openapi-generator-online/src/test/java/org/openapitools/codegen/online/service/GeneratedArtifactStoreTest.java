@@ -0,0 +1,118 @@
+package org.openapitools.codegen.online.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.GeneratorInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratedArtifactStoreTest {
+
+    private static final String SPEC = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"ping\",\"version\":\"1.0\"},"
+            + "\"paths\":{\"/ping\":{\"get\":{\"operationId\":\"ping\",\"responses\":{\"200\":{\"description\":\"OK\"}}}}}}";
+    private static final ParsedSpecCache SPECS = new ParsedSpecCache(10, Duration.ofMinutes(10));
+
+    @Test
+    public void evictedBundlesAreDeleted() throws IOException {
+        GeneratedArtifactStore store = new GeneratedArtifactStore(1, Duration.ofMinutes(30));
+        File first = bundle();
+        File second = bundle();
+
+        String firstCode = store.put(generated(first));
+        String secondCode = store.put(generated(second));
+        store.cleanUp();
+
+        assertNull(store.get(firstCode));
+        assertFalse(first.getParentFile().exists());
+        assertNotNull(store.get(secondCode));
+        assertTrue(second.exists());
+        assertEquals(1, store.getEvictionCount());
+
+        store.remove(secondCode);
+        assertFalse(second.getParentFile().exists());
+        assertEquals(2, store.getDeletedBundles());
+    }
+
+    @Test
+    public void expiredBundlesAreDeleted() throws Exception {
+        GeneratedArtifactStore store = new GeneratedArtifactStore(10, Duration.ofMillis(1));
+        File bundle = bundle();
+
+        String code = store.put(generated(bundle));
+        Thread.sleep(50);
+
+        assertNull(store.get(code));
+        store.cleanUp();
+        assertFalse(bundle.getParentFile().exists());
+        assertEquals(1, store.getMissCount());
+    }
+
+    @Test
+    public void retainedBytes() {
+        GeneratedArtifactStore store = new GeneratedArtifactStore(10, Duration.ofMinutes(30));
+        Generated generated = new Generated();
+        generated.setContent(new byte[42]);
+
+        String code = store.put(generated);
+        assertEquals(42, store.getRetainedBytes());
+
+        store.remove(code);
+        assertEquals(0, store.getRetainedBytes());
+    }
+
+    @Test
+    public void zipInMemory() throws IOException {
+        Generated onDisk = Generator.generateClient("java", input(), SPECS, false);
+        Generated inMemory = Generator.generateClient("java", input(), SPECS, true);
+
+        assertNull(inMemory.getFilename());
+        assertNull(onDisk.getContent());
+
+        Set<String> onDiskEntries = new TreeSet<>();
+        try (ZipFile zip = new ZipFile(onDisk.getFilename())) {
+            zip.stream().map(ZipEntry::getName).forEach(onDiskEntries::add);
+        }
+        Set<String> inMemoryEntries = new TreeSet<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(inMemory.getContent()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                inMemoryEntries.add(entry.getName());
+            }
+        }
+        assertTrue(inMemoryEntries.contains("java-client/src/main/java/org/openapitools/client/api/DefaultApi.java"));
+        assertEquals(onDiskEntries, inMemoryEntries);
+
+        GeneratedArtifactStore store = new GeneratedArtifactStore(10, Duration.ofMinutes(30));
+        store.remove(store.put(onDisk));
+        assertFalse(new File(onDisk.getFilename()).getParentFile().exists());
+    }
+
+    private static GeneratorInput input() throws IOException {
+        GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree(SPEC));
+        return input;
+    }
+
+    private static File bundle() throws IOException {
+        File bundle = Files.createTempDirectory("codegen-tmp").resolve("java-client-bundle.zip").toFile();
+        Files.write(bundle.toPath(), new byte[]{0});
+        return bundle;
+    }
+
+    private static Generated generated(File bundle) {
+        Generated generated = new Generated();
+        generated.setFilename(bundle.getAbsolutePath());
+        return generated;
+    }
+}
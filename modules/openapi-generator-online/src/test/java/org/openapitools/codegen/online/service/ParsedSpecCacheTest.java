@@ -0,0 +1,109 @@
+package org.openapitools.codegen.online.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.utils.OpenAPICopier;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParsedSpecCacheTest {
+
+    private static final String RESOURCES = "../openapi-generator/src/test/resources/";
+
+    @Test
+    public void parsesOnce() throws IOException {
+        ParsedSpecCache cache = new ParsedSpecCache(10, Duration.ofMinutes(10));
+        JsonNode spec = read("3_0/petstore.json");
+        AtomicInteger parsed = new AtomicInteger();
+
+        OpenAPI first = cache.get(spec, null, () -> {
+            parsed.incrementAndGet();
+            return parse(spec);
+        });
+        first.getComponents().getSchemas().clear();
+        OpenAPI second = cache.get(spec.deepCopy(), null, () -> {
+            parsed.incrementAndGet();
+            return parse(spec);
+        });
+
+        assertEquals(1, parsed.get());
+        assertEquals(1, cache.getHitCount());
+        assertNotSame(first, second);
+        assertFalse(second.getComponents().getSchemas().isEmpty(), "copies are independent of each other");
+    }
+
+    @Test
+    public void invalidSpecsAreNotCached() throws IOException {
+        ParsedSpecCache cache = new ParsedSpecCache(10, Duration.ofMinutes(10));
+        JsonNode spec = Json.mapper().readTree("{\"foo\":\"bar\"}");
+
+        assertNull(cache.get(spec, null, () -> null));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void copiesSerializeLikeTheOriginal() throws IOException {
+        for (String file : new String[]{"2_0/petstore.json", "3_0/petstore.json", "3_0/opendota.json", "3_1/matrix-path-params-spec.json"}) {
+            OpenAPI openAPI = parse(read(file));
+            OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+            assertEquals(openAPI.getSpecVersion(), copy.getSpecVersion(), file);
+            if (openAPI.getSpecVersion() == SpecVersion.V31) {
+                assertEquals(Json31.pretty(openAPI), Json31.pretty(copy), file);
+            } else {
+                assertEquals(Json.pretty(openAPI), Json.pretty(copy), file);
+            }
+        }
+    }
+
+    @Test
+    public void copiesGenerateLikeTheOriginal() throws IOException {
+        OpenAPI openAPI = parse(read("3_0/petstore.json"));
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        assertEquals(generate(openAPI), generate(copy));
+    }
+
+    private static Map<String, String> generate(OpenAPI openAPI) throws IOException {
+        File outputDir = Files.createTempDirectory("codegen-tmp").toFile();
+        CodegenConfig config = CodegenConfigLoader.forName("java");
+        config.additionalProperties().put("hideGenerationTimestamp", "true");
+        config.setOutputDir(outputDir.getAbsolutePath());
+        InMemoryGenerator generator = new InMemoryGenerator();
+        generator.opts(new ClientOptInput().openAPI(openAPI).config(config)).generate();
+        FileUtils.deleteDirectory(outputDir);
+
+        Map<String, String> contents = new TreeMap<>();
+        generator.getContents().forEach((name, bytes) -> contents.put(name, new String(bytes, StandardCharsets.UTF_8)));
+        return contents;
+    }
+
+    private static JsonNode read(String file) throws IOException {
+        return Json.mapper().readTree(new File(RESOURCES + file));
+    }
+
+    private static OpenAPI parse(JsonNode spec) {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        return new OpenAPIParser().readContents(spec.toString(), null, parseOptions).getOpenAPI();
+    }
+}
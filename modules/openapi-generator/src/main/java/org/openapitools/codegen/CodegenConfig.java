@@ -31,6 +31,7 @@ import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.model.WebhooksMap;
+import org.openapitools.codegen.utils.NameCaches;
 
 import java.io.File;
 import java.util.List;
@@ -332,6 +333,16 @@ public interface CodegenConfig {
 
     public void setEnableMinimalUpdate(boolean isEnableMinimalUpdate);
 
+    int getRenderThreads();
+
+    void setRenderThreads(int renderThreads);
+
+    boolean isIncremental();
+
+    void setIncremental(boolean incremental);
+
+    NameCaches getNameCaches();
+
     boolean isStrictSpecBehavior();
 
     void setStrictSpecBehavior(boolean strictSpecBehavior);
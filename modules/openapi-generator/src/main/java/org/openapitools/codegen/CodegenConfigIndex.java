@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.meta.Stability;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+/**
+ * An index of the generators registered as {@link CodegenConfig} services, mapping each generator name to its class,
+ * type and stability. The index is written at build time (see {@link #main(String[])}) so generators can be looked
+ * up and listed without constructing every one of them.
+ * <p>
+ * Each line of the index holds the tab separated name, fully qualified class name, type and stability of a generator.
+ * Jars contributing custom generators may ship their own index; generators without an index entry are still found,
+ * by instantiating them.
+ */
+public final class CodegenConfigIndex {
+    /**
+     * The classpath location of the generator index.
+     */
+    public static final String RESOURCE = "META-INF/openapi-generator/generators.index";
+
+    private CodegenConfigIndex() {
+    }
+
+    /**
+     * Writes the index of the generators available on the classpath.
+     *
+     * @param args the output directory (e.g. target/classes) in which the index resource is written
+     * @throws IOException if the index could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: CodegenConfigIndex <output directory>");
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader())) {
+            entries.add(Entry.of(config));
+        }
+
+        Path target = Paths.get(args[0]).resolve(RESOURCE);
+        Files.createDirectories(target.getParent());
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            write(entries, writer);
+        }
+    }
+
+    /**
+     * Reads all generator indexes visible to the given class loader.
+     *
+     * @param classLoader the class loader used to find the index resources
+     * @return the index entries, in classpath order
+     */
+    public static List<Entry> load(ClassLoader classLoader) {
+        List<Entry> entries = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                entries.addAll(read(resources.nextElement()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the generator index", e);
+        }
+        return entries;
+    }
+
+    static void write(List<Entry> entries, Writer writer) throws IOException {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(Entry::getName));
+        writer.write("# Generated by " + CodegenConfigIndex.class.getName() + ", do not edit.\n");
+        for (Entry entry : sorted) {
+            writer.write(String.join("\t",
+                    entry.getName(),
+                    entry.getClassName(),
+                    entry.getTag() == null ? "" : entry.getTag().name(),
+                    entry.getStability() == null ? "" : entry.getStability().value()));
+            writer.write("\n");
+        }
+    }
+
+    static List<Entry> read(URL resource) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                if (columns.length != 4) {
+                    throw new IOException("Invalid generator index entry in " + resource + ": " + line);
+                }
+                entries.add(new Entry(columns[0], columns[1],
+                        columns[2].isEmpty() ? null : CodegenType.valueOf(columns[2].toUpperCase(Locale.ROOT)),
+                        columns[3].isEmpty() ? null : Stability.forDescription(columns[3])));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Describes a generator without requiring an instance of it.
+     */
+    public static final class Entry {
+        private final String name;
+        private final String className;
+        private final CodegenType tag;
+        private final Stability stability;
+
+        public Entry(String name, String className, CodegenType tag, Stability stability) {
+            this.name = name;
+            this.className = className;
+            this.tag = tag;
+            this.stability = stability;
+        }
+
+        public static Entry of(CodegenConfig config) {
+            GeneratorMetadata meta = config.getGeneratorMetadata();
+            return new Entry(config.getName(), config.getClass().getName(), config.getTag(),
+                    meta == null ? null : meta.getStability());
+        }
+
+        /**
+         * @return the name of the generator, as returned by {@link CodegenConfig#getName()}
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the fully qualified class name of the generator
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return the type of the generator, as returned by {@link CodegenConfig#getTag()}
+         */
+        public CodegenType getTag() {
+            return tag;
+        }
+
+        /**
+         * @return the stability of the generator, or null if the generator has no metadata
+         */
+        public Stability getStability() {
+            return stability;
+        }
+    }
+}
@@ -18,22 +18,43 @@
 package org.openapitools.codegen;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 
 public class CodegenConfigLoader {
+    private static volatile Map<String, CodegenConfigIndex.Entry> index;
+
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
+     * <p>
+     * Generators listed in the {@link CodegenConfigIndex generator index} are matched by name without being
+     * constructed, so only the requested generator (and any generator missing from the index) is instantiated.
      *
      * @param name name of config, or full qualified class name in classpath
      * @return config class
      */
     public static CodegenConfig forName(String name) {
         ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
+        Map<String, CodegenConfigIndex.Entry> indexedClasses = getIndex();
 
         StringBuilder availableConfigs = new StringBuilder();
 
-        for (CodegenConfig config : loader) {
+        Iterator<ServiceLoader.Provider<CodegenConfig>> providers = loader.stream().iterator();
+        while (providers.hasNext()) {
+            ServiceLoader.Provider<CodegenConfig> provider = providers.next();
+            CodegenConfigIndex.Entry entry = indexedClasses.get(provider.type().getName());
+            if (entry != null) {
+                if (entry.getName().equals(name)) {
+                    return provider.get();
+                }
+                availableConfigs.append(entry.getName()).append("\n");
+                continue;
+            }
+
+            CodegenConfig config = provider.get();
             if (config.getName().equals(name)) {
                 return config;
             }
@@ -57,4 +78,35 @@ public class CodegenConfigLoader {
         }
         return output;
     }
+
+    /**
+     * Describes all available generators, instantiating only those missing from the generator index.
+     *
+     * @return the name, class, type and stability of every registered generator
+     */
+    public static List<CodegenConfigIndex.Entry> getAllEntries() {
+        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
+        Map<String, CodegenConfigIndex.Entry> indexedClasses = getIndex();
+        List<CodegenConfigIndex.Entry> output = new ArrayList<>();
+        loader.stream().forEach(provider -> {
+            CodegenConfigIndex.Entry entry = indexedClasses.get(provider.type().getName());
+            output.add(entry != null ? entry : CodegenConfigIndex.Entry.of(provider.get()));
+        });
+        return output;
+    }
+
+    /**
+     * @return the generator index, keyed by generator class name
+     */
+    private static Map<String, CodegenConfigIndex.Entry> getIndex() {
+        Map<String, CodegenConfigIndex.Entry> result = index;
+        if (result == null) {
+            result = new HashMap<>();
+            for (CodegenConfigIndex.Entry entry : CodegenConfigIndex.load(CodegenConfig.class.getClassLoader())) {
+                result.putIfAbsent(entry.getClassName(), entry);
+            }
+            index = result;
+        }
+        return result;
+    }
 }
@@ -24,6 +24,7 @@ import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * CodegenModel represents a schema object in a OpenAPI document.
@@ -77,7 +78,13 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
     @Getter @Setter
     public String title;
     @Getter @Setter
-    public String description, classVarName, modelJson, dataType, xmlPrefix, xmlNamespace, xmlName;
+    public String description, classVarName, dataType, xmlPrefix, xmlNamespace, xmlName;
+    /**
+     * @deprecated use {@link #getModelJson()} instead, as the field is only set once the JSON has been rendered.
+     */
+    @Deprecated
+    public String modelJson;
+    private Supplier<String> modelJsonSupplier;
     @Getter @Setter
     public String classFilename; // store the class file name, mainly used for import
     @Getter @Setter
@@ -952,7 +959,6 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
                 Objects.equals(title, that.title) &&
                 Objects.equals(description, that.description) &&
                 Objects.equals(classVarName, that.classVarName) &&
-                Objects.equals(modelJson, that.modelJson) &&
                 Objects.equals(dataType, that.dataType) &&
                 Objects.equals(xmlPrefix, that.xmlPrefix) &&
                 Objects.equals(xmlNamespace, that.xmlNamespace) &&
@@ -990,14 +996,43 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
                 Objects.equals(getItems(), that.getItems()) &&
                 Objects.equals(getAdditionalProperties(), that.getAdditionalProperties()) &&
                 Objects.equals(getIsModel(), that.getIsModel()) &&
-                Objects.equals(getMultipleOf(), that.getMultipleOf());
+                Objects.equals(getMultipleOf(), that.getMultipleOf()) &&
+                Objects.equals(getModelJson(), that.getModelJson());
+    }
+
+    /**
+     * @return The schema of the model as JSON, rendered on first use if it was set by {@link #setModelJsonSupplier(Supplier)}
+     */
+    public synchronized String getModelJson() {
+        if (modelJsonSupplier != null) {
+            if (modelJson == null) {
+                modelJson = modelJsonSupplier.get();
+            }
+            modelJsonSupplier = null;
+        }
+        return modelJson;
+    }
+
+    public synchronized void setModelJson(String modelJson) {
+        this.modelJson = modelJson;
+        this.modelJsonSupplier = null;
+    }
+
+    /**
+     * Sets the schema of the model as JSON, to be rendered when it is first used.
+     *
+     * @param modelJson Renders the schema of the model as JSON
+     */
+    public synchronized void setModelJsonSupplier(Supplier<String> modelJson) {
+        this.modelJson = null;
+        this.modelJsonSupplier = modelJson;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(getParent(), getParentSchema(), getInterfaces(), getAllParents(), getParentModel(),
                 getInterfaceModels(), getChildren(), permits, anyOf, oneOf, allOf, getName(), getSchemaName(), getClassname(), getTitle(),
-                getDescription(), getClassVarName(), getModelJson(), getDataType(), getXmlPrefix(), getXmlNamespace(),
+                getDescription(), getClassVarName(), getDataType(), getXmlPrefix(), getXmlNamespace(),
                 getXmlName(), getClassFilename(), getUnescapedDescription(), getDiscriminator(), getDefaultValue(),
                 getArrayModelType(), isAlias, isString, isInteger, isLong, isNumber, isNumeric, isFloat, isDouble,
                 isDate, isDateTime, isNull, hasValidation, isShort, isUnboundedInteger, isBoolean,
@@ -1034,7 +1069,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
         sb.append(", title='").append(title).append('\'');
         sb.append(", description='").append(description).append('\'');
         sb.append(", classVarName='").append(classVarName).append('\'');
-        sb.append(", modelJson='").append(modelJson).append('\'');
+        sb.append(", modelJson='").append(getModelJson()).append('\'');
         sb.append(", dataType='").append(dataType).append('\'');
         sb.append(", xmlPrefix='").append(xmlPrefix).append('\'');
         sb.append(", xmlNamespace='").append(xmlNamespace).append('\'');
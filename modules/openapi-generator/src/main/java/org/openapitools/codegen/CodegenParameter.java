@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Describes a single operation parameter in the OAS specification.
@@ -42,7 +43,12 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
     public String nameInSnakeCase; // property name in upper snake case
     public String example; // example value (x-example)
     public Map<String, Example> examples;
+    /**
+     * @deprecated use {@link #getJsonSchema()} instead, as the field is only set once the JSON has been rendered.
+     */
+    @Deprecated
     public String jsonSchema;
+    private Supplier<String> jsonSchemaSupplier;
     public boolean isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal, isByteArray, isBinary,
             isBoolean, isDate, isDateTime, isUuid, isUri, isEmail, isPassword, isFreeFormObject, isAnyType, isShort, isUnboundedInteger;
     public boolean isArray, isMap;
@@ -181,6 +187,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         output.setUniqueItemsBoolean(this.uniqueItemsBoolean);
         output.multipleOf = this.multipleOf;
         output.jsonSchema = this.jsonSchema;
+        output.jsonSchemaSupplier = this.jsonSchemaSupplier == null ? null : this::getJsonSchema;
         output.defaultValue = this.defaultValue;
         output.enumDefaultValue = this.enumDefaultValue;
         output.example = this.example;
@@ -284,6 +291,41 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         return output;
     }
 
+    /**
+     * @return The schema of the parameter as JSON, rendered on first use if it was set by {@link #setJsonSchemaSupplier(Supplier)}
+     */
+    public synchronized String getJsonSchema() {
+        if (jsonSchemaSupplier != null) {
+            if (jsonSchema == null) {
+                jsonSchema = jsonSchemaSupplier.get();
+            }
+            jsonSchemaSupplier = null;
+        }
+        return jsonSchema;
+    }
+
+    /**
+     * @return true if the JSON of the parameter is set, whether it has been rendered yet or not
+     */
+    synchronized boolean hasJsonSchema() {
+        return jsonSchema != null || jsonSchemaSupplier != null;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSupplier = null;
+    }
+
+    /**
+     * Sets the schema of the parameter as JSON, to be rendered when it is first used.
+     *
+     * @param jsonSchema Renders the schema of the parameter as JSON
+     */
+    public synchronized void setJsonSchemaSupplier(Supplier<String> jsonSchema) {
+        this.jsonSchema = null;
+        this.jsonSchemaSupplier = jsonSchema;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(isFormParam, isQueryParam, isPathParam, isHeaderParam, isCookieParam,
@@ -292,7 +334,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
                 unescapedDescription, baseType, containerType, containerTypeMapped, defaultValue,
                 enumDefaultValue, enumName, style, isDeepObject, isMatrix, isAllowEmptyValue, example, examples,
                 isFormStyle, isSpaceDelimited, isPipeDelimited,
-                jsonSchema, isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal,
+                isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal,
                 isByteArray, isBinary, isBoolean, isDate, isDateTime, isUuid, isUri, isEmail, isPassword,
                 isFreeFormObject, isAnyType, isArray, isMap, queryIsJsonMimeType, isOptional, isFile, isEnum, isEnumRef, _enum, allowableValues,
                 items, mostInnerItems, additionalProperties, vars, requiredVars, vendorExtensions, hasValidation,
@@ -393,7 +435,6 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
                 Objects.equals(isAllowEmptyValue, that.isAllowEmptyValue) &&
                 Objects.equals(example, that.example) &&
                 Objects.equals(examples, that.examples) &&
-                Objects.equals(jsonSchema, that.jsonSchema) &&
                 Objects.equals(_enum, that._enum) &&
                 Objects.equals(allowableValues, that.allowableValues) &&
                 Objects.equals(items, that.items) &&
@@ -412,7 +453,8 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
                 Objects.equals(getMaxItems(), that.getMaxItems()) &&
                 Objects.equals(getMinItems(), that.getMinItems()) &&
                 Objects.equals(contentType, that.contentType) &&
-                Objects.equals(multipleOf, that.multipleOf);
+                Objects.equals(multipleOf, that.multipleOf) &&
+                Objects.equals(getJsonSchema(), that.getJsonSchema());
     }
 
     /**
@@ -461,7 +503,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         sb.append(", allowEmptyValue='").append(isAllowEmptyValue).append('\'');
         sb.append(", example='").append(example).append('\'');
         sb.append(", examples='").append(examples).append('\'');
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", isString=").append(isString);
         sb.append(", isNumeric=").append(isNumeric);
         sb.append(", isInteger=").append(isInteger);
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 public class CodegenResponse implements IJsonSchemaValidationProperties {
     public final List<CodegenProperty> headers = new ArrayList<CodegenProperty>();
@@ -73,7 +74,12 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
     public boolean isNull;
     public boolean isVoid = false;
     public Object schema;
+    /**
+     * @deprecated use {@link #getJsonSchema()} instead, as the field is only set once the JSON has been rendered.
+     */
+    @Deprecated
     public String jsonSchema;
+    private Supplier<String> jsonSchemaSupplier;
     public Map<String, Object> vendorExtensions = new HashMap<String, Object>();
     private Integer maxProperties;
     private Integer minProperties;
@@ -107,12 +113,40 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
     public CodegenProperty returnProperty;
     private boolean schemaIsFromAdditionalProperties;
 
+    /**
+     * @return The response as JSON, rendered on first use if it was set by {@link #setJsonSchemaSupplier(Supplier)}
+     */
+    public synchronized String getJsonSchema() {
+        if (jsonSchemaSupplier != null) {
+            if (jsonSchema == null) {
+                jsonSchema = jsonSchemaSupplier.get();
+            }
+            jsonSchemaSupplier = null;
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSupplier = null;
+    }
+
+    /**
+     * Sets the response as JSON, to be rendered when it is first used.
+     *
+     * @param jsonSchema Renders the response as JSON
+     */
+    public synchronized void setJsonSchemaSupplier(Supplier<String> jsonSchema) {
+        this.jsonSchema = null;
+        this.jsonSchemaSupplier = jsonSchema;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(headers, code, message, examples, dataType, baseType, containerType, containerTypeMapped, hasHeaders,
                 isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal, isByteArray, isBoolean, isDate,
                 isDateTime, isUuid, isEmail, isPassword, isModel, isFreeFormObject, isAnyType, isDefault, simpleType, primitiveType,
-                isMap, isOptional, isArray, isBinary, isFile, schema, jsonSchema, vendorExtensions, items, additionalProperties,
+                isMap, isOptional, isArray, isBinary, isFile, schema, vendorExtensions, items, additionalProperties,
                 vars, requiredVars, isNull, isVoid, hasValidation, isShort, isUnboundedInteger,
                 getMaxProperties(), getMinProperties(), uniqueItems, getMaxItems(), getMinItems(), getMaxLength(),
                 getMinLength(), exclusiveMinimum, exclusiveMaximum, getMinimum(), getMaximum(), getPattern(),
@@ -188,7 +222,6 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
                 Objects.equals(containerType, that.containerType) &&
                 Objects.equals(containerTypeMapped, that.containerTypeMapped) &&
                 Objects.equals(schema, that.schema) &&
-                Objects.equals(jsonSchema, that.jsonSchema) &&
                 Objects.equals(vendorExtensions, that.vendorExtensions) &&
                 Objects.equals(getMaxProperties(), that.getMaxProperties()) &&
                 Objects.equals(getMinProperties(), that.getMinProperties()) &&
@@ -202,7 +235,8 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
                 Objects.equals(getMinimum(), that.getMinimum()) &&
                 Objects.equals(getMaximum(), that.getMaximum()) &&
                 Objects.equals(getPattern(), that.getPattern()) &&
-                Objects.equals(getMultipleOf(), that.getMultipleOf());
+                Objects.equals(getMultipleOf(), that.getMultipleOf()) &&
+                Objects.equals(getJsonSchema(), that.getJsonSchema());
 
     }
 
@@ -617,7 +651,7 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
         sb.append(", isBinary=").append(isBinary);
         sb.append(", isFile=").append(isFile);
         sb.append(", schema=").append(schema);
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", vendorExtensions=").append(vendorExtensions);
         sb.append(", maxProperties=").append(maxProperties);
         sb.append(", minProperties=").append(minProperties);
@@ -17,9 +17,7 @@
 
 package org.openapitools.codegen;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.Ticker;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache;
@@ -68,6 +66,7 @@ import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.mustache.*;
 import org.openapitools.codegen.utils.ExamplesUtils;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCaches;
 import org.openapitools.codegen.utils.OneOfImplementorAdditionalData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,10 +78,11 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -98,9 +98,6 @@ public class DefaultCodegen implements CodegenConfig {
 
     public static FeatureSet DefaultFeatureSet;
 
-    // A cache of sanitized words. The sanitizeName() method is invoked many times with the same
-    // arguments, this cache is used to optimized performance.
-    private static final Cache<SanitizeNameOptions, String> sanitizedNameCache;
     private static final String xSchemaTestExamplesKey = "x-schema-test-examples";
     private static final String xSchemaTestExamplesRefPrefix = "#/components/x-schema-test-examples/";
     protected static Schema falseSchema;
@@ -150,13 +147,6 @@ public class DefaultCodegen implements CodegenConfig {
                 )
                 .build();
 
-        int cacheSize = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_SIZE_PROPERTY, "500"));
-        int cacheExpiry = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_EXPIRY_PROPERTY, "10"));
-        sanitizedNameCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
         falseSchema = new Schema();
         falseSchema.setNot(new Schema());
     }
@@ -296,6 +286,21 @@ public class DefaultCodegen implements CodegenConfig {
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
 
+    // number of threads used to render and write files, 1 to render sequentially
+    protected int renderThreads = 1;
+
+    // flag to indicate whether to only re-render files whose inputs changed since the previous incremental run
+    protected boolean incremental = false;
+
+    // caches of sanitized, camelized, underscored and escaped names, sized for the document being generated.
+    // sanitizeName() and the name helpers of StringUtils are invoked many times with the same arguments.
+    protected NameCaches nameCaches = new NameCaches();
+
+    // generates the examples of the operations of the document, keeping the rendered examples of the models.
+    // Many operations of a document usually share the same (large) request and response models.
+    private ExampleGenerator exampleGenerator;
+    private Map<String, Schema> exampleGeneratorSchemas;
+
     // acts strictly upon a spec, potentially modifying it to have consistent behavior across generators.
     protected boolean strictSpecBehavior = true;
     // flag to indicate whether enum value prefixes are removed
@@ -320,7 +325,7 @@ public class DefaultCodegen implements CodegenConfig {
     private Map<String, Schema> modelNameToSchemaCache;
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private final Map<String, String> schemaKeyToModelNameCache = new ConcurrentHashMap<>();
 
     protected boolean loadDeepObjectIntoItems = true;
 
@@ -728,13 +733,15 @@ public class DefaultCodegen implements CodegenConfig {
         final Map<String, List<CodegenProperty>> allVarsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getAllVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, allVarsDependencyMap));
+        final Map<String, Integer> allVarsComponents = getStronglyConnectedComponents(allVarsDependencyMap);
+        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, allVarsDependencyMap, allVarsComponents));
 
         // for vars
         final Map<String, List<CodegenProperty>> varsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, varsDependencyMap));
+        final Map<String, Integer> varsComponents = getStronglyConnectedComponents(varsDependencyMap);
+        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, varsDependencyMap, varsComponents));
 
         // for oneOf
         final Map<String, List<CodegenProperty>> oneOfDependencyMap = models.entrySet().stream()
@@ -742,7 +749,8 @@ public class DefaultCodegen implements CodegenConfig {
                         (entry.getValue().getComposedSchemas() != null && entry.getValue().getComposedSchemas().getOneOf() != null)
                                 ? entry.getValue().getComposedSchemas().getOneOf() : new ArrayList<CodegenProperty>())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, oneOfDependencyMap));
+        final Map<String, Integer> oneOfComponents = getStronglyConnectedComponents(oneOfDependencyMap);
+        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, oneOfDependencyMap, oneOfComponents));
     }
 
     private List<CodegenProperty> getModelDependencies(List<CodegenProperty> vars) {
@@ -758,34 +766,110 @@ public class DefaultCodegen implements CodegenConfig {
     }
 
     private void setCircularReferencesOnProperties(final String root,
-                                                   final Map<String, List<CodegenProperty>> dependencyMap) {
-        dependencyMap.getOrDefault(root, new ArrayList<>())
+                                                   final Map<String, List<CodegenProperty>> dependencyMap,
+                                                   final Map<String, Integer> components) {
+        final Integer rootComponent = components.get(root);
+        dependencyMap.getOrDefault(root, Collections.emptyList())
                 .forEach(prop -> {
-                    final List<String> unvisited =
-                            Collections.singletonList(prop.isContainer ? prop.items.dataType : prop.dataType);
-                    prop.isCircularReference = isCircularReference(root,
-                            new HashSet<>(),
-                            new ArrayList<>(unvisited),
-                            dependencyMap);
+                    // the property leads back to its model if it references the model itself, or a model of the same
+                    // strongly connected component
+                    final String dependency = getDependency(prop);
+                    prop.isCircularReference = dependency.equals(root)
+                            || (rootComponent != null && rootComponent.equals(components.get(dependency)));
                 });
     }
 
-    private boolean isCircularReference(final String root,
-                                        final Set<String> visited,
-                                        final List<String> unvisited,
-                                        final Map<String, List<CodegenProperty>> dependencyMap) {
-        for (int i = 0; i < unvisited.size(); i++) {
-            final String next = unvisited.get(i);
-            if (!visited.contains(next)) {
-                if (next.equals(root)) {
-                    return true;
+    private String getDependency(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
+    }
+
+    /**
+     * Finds the strongly connected components of the model dependency graph (Tarjan's algorithm, iterative so that long
+     * dependency chains don't overflow the stack). Two models reference each other, directly or indirectly, if and only
+     * if they belong to the same component.
+     *
+     * @param dependencyMap the properties referencing other models, by model name
+     * @return the index of the component of each model, by model name
+     */
+    private Map<String, Integer> getStronglyConnectedComponents(final Map<String, List<CodegenProperty>> dependencyMap) {
+        final List<String> names = new ArrayList<>(dependencyMap.keySet());
+        final Map<String, Integer> ids = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < names.size(); i++) {
+            ids.put(names.get(i), i);
+        }
+
+        // only dependencies on models can be part of a cycle
+        final int count = names.size();
+        final int[][] edges = new int[count][];
+        for (int i = 0; i < count; i++) {
+            edges[i] = dependencyMap.get(names.get(i)).stream()
+                    .map(prop -> ids.get(getDependency(prop)))
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        final int[] index = new int[count];
+        Arrays.fill(index, -1);
+        final int[] lowLink = new int[count];
+        final int[] component = new int[count];
+        final boolean[] onStack = new boolean[count];
+        final int[] stack = new int[count];
+        final int[] callStack = new int[count];
+        final int[] nextEdge = new int[count];
+        int nextIndex = 0;
+        int stackSize = 0;
+        int componentCount = 0;
+
+        for (int start = 0; start < count; start++) {
+            if (index[start] != -1) {
+                continue;
+            }
+            int depth = 0;
+            callStack[depth++] = start;
+            index[start] = lowLink[start] = nextIndex++;
+            stack[stackSize++] = start;
+            onStack[start] = true;
+            nextEdge[start] = 0;
+
+            while (depth > 0) {
+                final int node = callStack[depth - 1];
+                if (nextEdge[node] < edges[node].length) {
+                    final int dependency = edges[node][nextEdge[node]++];
+                    if (index[dependency] == -1) {
+                        index[dependency] = lowLink[dependency] = nextIndex++;
+                        stack[stackSize++] = dependency;
+                        onStack[dependency] = true;
+                        nextEdge[dependency] = 0;
+                        callStack[depth++] = dependency;
+                    } else if (onStack[dependency]) {
+                        lowLink[node] = Math.min(lowLink[node], index[dependency]);
+                    }
+                    continue;
+                }
+
+                if (lowLink[node] == index[node]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        component[member] = componentCount;
+                    } while (member != node);
+                    componentCount++;
+                }
+                depth--;
+                if (depth > 0) {
+                    final int caller = callStack[depth - 1];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[node]);
                 }
-                dependencyMap.getOrDefault(next, new ArrayList<>())
-                        .forEach(prop -> unvisited.add(prop.isContainer ? prop.items.dataType : prop.dataType));
-                visited.add(next);
             }
         }
-        return false;
+
+        final Map<String, Integer> components = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            components.put(names.get(i), component[i]);
+        }
+        return components;
     }
 
     // override with any special post-processing
@@ -963,6 +1047,8 @@ public class DefaultCodegen implements CodegenConfig {
             LOGGER.warn(UNSUPPORTED_V310_SPEC_MSG);
         }
         this.openAPI = openAPI;
+        this.nameCaches.sizeFor(openAPI);
+        this.exampleGenerator = null;
         // Set global settings such that helper functions in ModelUtils can lookup the value
         // of the CLI option.
         ModelUtils.setDisallowAdditionalPropertiesIfNotPresent(getDisallowAdditionalPropertiesIfNotPresent());
@@ -3062,7 +3148,8 @@ public class DefaultCodegen implements CodegenConfig {
         m.classname = toModelName(name);
         m.classVarName = toVarName(name);
         m.classFilename = toModelFilename(name);
-        m.modelJson = Json.pretty(schema);
+        // only a few templates use the JSON of the schema, it is rendered when they do
+        m.setModelJsonSupplier(schemaJson(schema, false));
         m.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             m.getVendorExtensions().putAll(schema.getExtensions());
@@ -4047,7 +4134,7 @@ public class DefaultCodegen implements CodegenConfig {
             property.example = "ERROR_TO_EXAMPLE_VALUE";
         }
 
-        property.jsonSchema = Json.pretty(Json.mapper().convertValue(p, TreeMap.class));
+        property.setJsonSchemaSupplier(schemaJson(p, true));
 
         if (p.getDeprecated() != null) {
             property.deprecated = p.getDeprecated();
@@ -4781,7 +4868,7 @@ public class DefaultCodegen implements CodegenConfig {
         // check skipOperationExample, which can be set to true to avoid out of memory errors for large spec
         if (!isSkipOperationExample() && operation.getResponses() != null) {
             // generate examples
-            ExampleGenerator generator = new ExampleGenerator(schemas, this.openAPI);
+            ExampleGenerator generator = getExampleGenerator(schemas);
             List<Map<String, String>> examples = new ArrayList<>();
 
             for (String statusCode : operation.getResponses().keySet()) {
@@ -4873,7 +4960,7 @@ public class DefaultCodegen implements CodegenConfig {
 
                     // add example
                     if (schemas != null && !isSkipOperationExample()) {
-                        op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
+                        op.requestBodyExamples = getExampleGenerator(schemas).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
                     }
                 }
             }
@@ -5062,7 +5149,7 @@ public class DefaultCodegen implements CodegenConfig {
         if (examples != null && !examples.isEmpty())
             r.examples = unaliasExamples(examples);
 
-        r.jsonSchema = Json.pretty(response);
+        r.setJsonSchemaSupplier(() -> Json.pretty(response));
         if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
             r.vendorExtensions.putAll(response.getExtensions());
         }
@@ -5339,11 +5426,11 @@ public class DefaultCodegen implements CodegenConfig {
         if (parameter.getDeprecated() != null) {
             codegenParameter.isDeprecated = parameter.getDeprecated();
         }
-        codegenParameter.jsonSchema = Json.pretty(parameter);
+        codegenParameter.setJsonSchemaSupplier(() -> Json.pretty(parameter));
 
         if (GlobalSettings.getProperty("debugParser") != null) {
             LOGGER.info("working on Parameter {}", parameter.getName());
-            LOGGER.info("JSON schema: {}", codegenParameter.jsonSchema);
+            LOGGER.info("JSON schema: {}", codegenParameter.getJsonSchema());
         }
 
         if (parameter.getExtensions() != null && !parameter.getExtensions().isEmpty()) {
@@ -6695,7 +6782,7 @@ public class DefaultCodegen implements CodegenConfig {
 
         SanitizeNameOptions opts = new SanitizeNameOptions(name, removeCharRegEx, exceptionList);
 
-        return sanitizedNameCache.get(opts, sanitizeNameOptions -> {
+        return nameCaches.get(NameCaches.SANITIZE_NAME, opts, sanitizeNameOptions -> {
             String modifiable = sanitizeNameOptions.getName();
             List<String> exceptions = sanitizeNameOptions.getExceptions();
             // input[] => input
@@ -7549,7 +7636,7 @@ public class DefaultCodegen implements CodegenConfig {
         codegenParameter.isFormParam = Boolean.TRUE;
         codegenParameter.description = escapeText(codegenProperty.description);
         codegenParameter.unescapedDescription = codegenProperty.getDescription();
-        codegenParameter.jsonSchema = Json.pretty(propertySchema);
+        codegenParameter.setJsonSchemaSupplier(() -> Json.pretty(propertySchema));
         codegenParameter.containerType = codegenProperty.containerType;
         codegenParameter.containerTypeMapped = codegenProperty.containerTypeMapped;
 
@@ -8195,9 +8282,58 @@ public class DefaultCodegen implements CodegenConfig {
         return "additional_properties";
     }
 
+    /**
+     * Returns the example generator of the document, with the sequence of its "random" numbers restarted so that
+     * the examples of an operation do not depend on the operations processed before.
+     *
+     * @param schemas the schemas of the document
+     * @return the example generator
+     */
+    private ExampleGenerator getExampleGenerator(Map<String, Schema> schemas) {
+        if (exampleGenerator == null || exampleGeneratorSchemas != schemas) {
+            exampleGenerator = new ExampleGenerator(schemas, this.openAPI);
+            exampleGeneratorSchemas = schemas;
+        }
+        exampleGenerator.resetRandom();
+        return exampleGenerator;
+    }
+
+    /**
+     * Renders a schema as JSON when it is first used, as it is when this method is called. The example generator sets
+     * the examples it creates on the schemas of the components while the operations are processed, which must not show
+     * up in the JSON of the models processed before.
+     *
+     * @param schema the schema
+     * @param sorted whether to sort the properties of the schema by name
+     * @return the JSON of the schema
+     */
+    private static Supplier<String> schemaJson(Schema schema, boolean sorted) {
+        Object example = schema.getExample();
+        boolean exampleSetFlag = schema.getExampleSetFlag();
+        return () -> {
+            if (example != null || schema.getExample() == null) {
+                return sorted ? Json.pretty(Json.mapper().convertValue(schema, TreeMap.class)) : Json.pretty(schema);
+            }
+            if (sorted) {
+                Map<String, Object> json = Json.mapper().convertValue(schema, TreeMap.class);
+                json.remove("example");
+                if (exampleSetFlag) {
+                    json.put("example", null);
+                }
+                return Json.pretty(json);
+            }
+            ObjectNode json = Json.mapper().valueToTree(schema);
+            json.remove("example");
+            if (exampleSetFlag) {
+                json.putNull("example");
+            }
+            return Json.pretty(json);
+        };
+    }
+
     private void addJsonSchemaForBodyRequestInCaseItsNotPresent(CodegenParameter codegenParameter, RequestBody body) {
-        if (codegenParameter.jsonSchema == null)
-            codegenParameter.jsonSchema = Json.pretty(body);
+        if (!codegenParameter.hasJsonSchema())
+            codegenParameter.setJsonSchemaSupplier(() -> Json.pretty(body));
     }
 
     protected void addOption(String key, String description, String defaultValue) {
@@ -8437,6 +8573,52 @@ public class DefaultCodegen implements CodegenConfig {
         this.enableMinimalUpdate = enableMinimalUpdate;
     }
 
+    /**
+     * Get the number of threads used to render and write model, API and supporting files
+     */
+    @Override
+    public int getRenderThreads() {
+        return renderThreads;
+    }
+
+    /**
+     * Set the number of threads used to render and write model, API and supporting files.
+     * Templates, lambdas and post-processing hooks invoked while rendering must be thread-safe when greater than 1.
+     *
+     * @param renderThreads number of render threads, 1 to render sequentially
+     */
+    @Override
+    public void setRenderThreads(int renderThreads) {
+        this.renderThreads = Math.max(1, renderThreads);
+    }
+
+    /**
+     * Get the boolean value indicating whether only files with changed inputs are re-rendered
+     */
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Set the boolean value indicating whether only files whose inputs (schema or operations, template and options)
+     * changed since the previous incremental run should be re-rendered
+     *
+     * @param incremental true to enable incremental generation
+     */
+    @Override
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Get the caches of the names derived by this generator, e.g. sanitized and camelized names
+     */
+    @Override
+    public NameCaches getNameCaches() {
+        return nameCaches;
+    }
+
     /**
      * Indicates whether the codegen configuration should treat documents as strictly defined by the OpenAPI specification.
      *
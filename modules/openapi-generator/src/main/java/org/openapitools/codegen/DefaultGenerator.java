@@ -55,7 +55,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -94,6 +100,13 @@ public class DefaultGenerator implements Generator {
     @Getter protected TemplateProcessor templateProcessor = null;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
+    // renders files concurrently when CodegenConfig#getRenderThreads() is greater than 1, otherwise null
+    private ExecutorService renderExecutor = null;
+    private final List<QueuedFile> queuedFiles = new ArrayList<>();
+    private InputFingerprints inputFingerprints = null;
+    // the settings of the current run, bound to each thread the run executes on
+    private Properties globalSettings = null;
+    private GenerationManifest manifest = null;
     private String generatorCheck = "spring";
     private String templateCheck = "apiController.mustache";
 
@@ -376,7 +389,7 @@ public class DefaultGenerator implements Generator {
         }
     }
 
-    private void generateModelTests(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    private void generateModelTests(List<File> files, Map<String, Object> models, String modelName, String inputFingerprint) throws IOException {
         // to generate model test files
         for (Map.Entry<String, String> configModelTestTemplateFilesEntry : config.modelTestTemplateFiles().entrySet()) {
             String templateName = configModelTestTemplateFilesEntry.getKey();
@@ -389,13 +402,7 @@ public class DefaultGenerator implements Generator {
                 if (modelTestFile.exists()) {
                     this.templateProcessor.skip(modelTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                 } else {
-                    File written = processTemplateToFile(models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "model-test");
-                        }
-                    }
+                    processTemplateToFile(files, "model-test", models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder(), inputFingerprint);
                 }
             } else if (dryRun) {
                 Path skippedPath = java.nio.file.Paths.get(filename);
@@ -404,38 +411,25 @@ public class DefaultGenerator implements Generator {
         }
     }
 
-    private void generateModelDocumentation(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    private void generateModelDocumentation(List<File> files, Map<String, Object> models, String modelName, String inputFingerprint) throws IOException {
         for (String templateName : config.modelDocTemplateFiles().keySet()) {
             String docExtension = config.getDocExtension();
             String suffix = docExtension != null ? docExtension : config.modelDocTemplateFiles().get(templateName);
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
 
-            File written = processTemplateToFile(models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS);
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model-doc");
-                }
-            }
+            processTemplateToFile(files, "model-doc", models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS, config.getOutputDir(), inputFingerprint);
         }
     }
 
-    private void generateModel(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    private void generateModel(List<File> files, Map<String, Object> models, String modelName, String inputFingerprint) throws IOException {
         for (String templateName : config.modelTemplateFiles().keySet()) {
-            File written;
             if (config.templateOutputDirs().containsKey(templateName)) {
                 String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                 String filename = config.modelFilename(templateName, modelName, outputDir);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
+                processTemplateToFile(files, "model", models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir, inputFingerprint);
             } else {
                 String filename = config.modelFilename(templateName, modelName);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS);
-            }
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model");
-                }
+                processTemplateToFile(files, "model", models, templateName, filename, generateModels, CodegenConstants.MODELS, config.getOutputDir(), inputFingerprint);
             }
         }
     }
@@ -544,6 +538,10 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        if (inputFingerprints != null) {
+            inputFingerprints.refreshOptions();
+        }
+
         // generate files based on processed models
         for (String modelName : allProcessedModels.keySet()) {
             ModelsMap models = allProcessedModels.get(modelName);
@@ -570,19 +568,22 @@ public class DefaultGenerator implements Generator {
                     allModels.add(modelTemplate);
                 }
 
+                String inputFingerprint = inputFingerprints == null ? null : inputFingerprints.forSchema(modelName);
+
                 // to generate model files
-                generateModel(files, models, modelName);
+                generateModel(files, models, modelName, inputFingerprint);
 
                 // to generate model test files
-                generateModelTests(files, models, modelName);
+                generateModelTests(files, models, modelName, inputFingerprint);
 
                 // to generate model documentation files
-                generateModelDocumentation(files, models, modelName);
+                generateModelDocumentation(files, models, modelName, inputFingerprint);
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
+        renderQueuedFiles();
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
@@ -683,6 +684,9 @@ public class DefaultGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        if (inputFingerprints != null) {
+            inputFingerprints.refreshOptions();
+        }
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
@@ -690,6 +694,7 @@ public class DefaultGenerator implements Generator {
                     // sort operations by operationId
                     ops.sort((one, another) -> ObjectUtils.compare(one.operationId, another.operationId));
                 }
+                String inputFingerprint = inputFingerprints == null ? null : inputFingerprints.forOperations(ops);
                 OperationsMap operation = processOperations(config, tag, ops, allModels);
                 URL url = URLPathUtils.getServerURL(openAPI, config.serverVariableOverrides());
                 operation.put("basePath", basePath);
@@ -761,30 +766,23 @@ public class DefaultGenerator implements Generator {
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
                     if (config.templateOutputDirs().containsKey(templateName)) {
                         String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                         String filename = config.apiFilename(templateName, tag, outputDir);
                         // do not overwrite apiController file for spring server
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                            processTemplateToFile(files, "api", operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir, inputFingerprint);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     } else {
                         String filename = config.apiFilename(templateName, tag);
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
+                            processTemplateToFile(files, "api", operation, templateName, filename, generateApis, CodegenConstants.APIS, config.getOutputDir(), inputFingerprint);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
                 }
 
                 // to generate api test files
@@ -795,32 +793,21 @@ public class DefaultGenerator implements Generator {
                     if (apiTestFile.exists()) {
                         this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        processTemplateToFile(files, "api-test", operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder(), inputFingerprint);
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    processTemplateToFile(files, "api-doc", operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS, config.getOutputDir(), inputFingerprint);
                 }
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        renderQueuedFiles();
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
@@ -920,30 +907,23 @@ public class DefaultGenerator implements Generator {
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
                     if (config.templateOutputDirs().containsKey(templateName)) {
                         String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                         String filename = config.apiFilename(templateName, tag, outputDir);
                         // do not overwrite apiController file for spring server
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, outputDir);
+                            processTemplateToFile(files, "api", operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, outputDir, null);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     } else {
                         String filename = config.apiFilename(templateName, tag);
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS);
+                            processTemplateToFile(files, "api", operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, config.getOutputDir(), null);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
                 }
 
                 // to generate api test files
@@ -954,32 +934,21 @@ public class DefaultGenerator implements Generator {
                     if (apiTestFile.exists()) {
                         this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        processTemplateToFile(files, "api-test", operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder(), null);
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    processTemplateToFile(files, "api-doc", operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS, config.getOutputDir(), null);
                 }
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        renderQueuedFiles();
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allWebhooks);
@@ -1093,13 +1062,7 @@ public class DefaultGenerator implements Generator {
                     shouldGenerate = supportingFilesToGenerate.contains(support.getDestinationFilename());
                 }
 
-                File written = processTemplateToFile(bundle, support.getTemplateFile(), outputFilename, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
-                if (written != null) {
-                    files.add(written);
-                    if (config.isEnablePostProcessFile() && !dryRun) {
-                        config.postProcessFile(written, "supporting-file");
-                    }
-                }
+                processTemplateToFile(files, "supporting-file", bundle, support.getTemplateFile(), outputFilename, shouldGenerate, CodegenConstants.SUPPORTING_FILES, config.getOutputDir(), null);
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate supporting file '" + support + "'", e);
             }
@@ -1118,13 +1081,7 @@ public class DefaultGenerator implements Generator {
                     if (shouldGenerate && supportingFilesToGenerate != null && !supportingFilesToGenerate.isEmpty()) {
                         shouldGenerate = supportingFilesToGenerate.contains(openapiGeneratorIgnore);
                     }
-                    File written = processTemplateToFile(bundle, openapiGeneratorIgnore, ignoreFileNameTarget, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "openapi-generator-ignore");
-                        }
-                    }
+                    processTemplateToFile(files, "openapi-generator-ignore", bundle, openapiGeneratorIgnore, ignoreFileNameTarget, shouldGenerate, CodegenConstants.SUPPORTING_FILES, config.getOutputDir(), null);
                 } catch (Exception e) {
                     throw new RuntimeException("Could not generate supporting file '" + ignoreFileNameTarget + "'", e);
                 }
@@ -1133,6 +1090,7 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        renderQueuedFiles();
         generateVersionMetadata(files);
     }
 
@@ -1274,31 +1232,78 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        // the run reads and writes its own copy of the settings, on this thread as well as on the render threads
+        globalSettings = GlobalSettings.copy();
+        // the name helpers of StringUtils use the caches of the generator while it generates
+        NameCaches nameCaches = config.getNameCaches();
+        try (GlobalSettings.Scope ignoredSettings = GlobalSettings.bind(globalSettings);
+             NameCaches.Scope ignoredCaches = nameCaches.bind()) {
+            return generateFiles();
+        } finally {
+            LOGGER.debug("Name cache statistics: {}", nameCaches.stats());
+            if (this.templateProcessor instanceof TemplateManager) {
+                // the templates compiled for a custom template directory are of no use to other runs
+                ((TemplateManager) this.templateProcessor).evictCompiledTemplates();
+            }
+            // reset GlobalSettings, so that the running thread can be reused for another generator-run
+            GlobalSettings.reset();
+        }
+    }
+
+    private List<File> generateFiles() {
         configureGeneratorProperties();
         configureOpenAPIInfo();
 
         config.processOpenAPI(openAPI);
 
+        // the document is not restructured from here on, index its references
+        SchemaReferenceIndex.build(openAPI);
+
         processUserDefinedTemplates();
 
         // generate .openapi-generator-ignore if the option openapiGeneratorIgnoreFile is enabled
         generateOpenapiGeneratorIgnoreFile();
 
+        inputFingerprints = null;
+        manifest = null;
+        if (config.isIncremental() && !dryRun) {
+            try {
+                inputFingerprints = new InputFingerprints(config, openAPI, (TemplatingExecutor) this.templateProcessor);
+                manifest = GenerationManifest.read(getManifestPath());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Unable to fingerprint the inputs of generated files, all files will be generated.", e);
+                manifest = null;
+            }
+        }
+
         List<File> files = new ArrayList<>();
-        // models
-        List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
-        List<ModelMap> allModels = new ArrayList<>();
-        List<ModelMap> aliasModels = new ArrayList<>();
-        generateModels(files, allModels, filteredSchemas, aliasModels);
-        // apis
-        List<OperationsMap> allOperations = new ArrayList<>();
-        generateApis(files, allOperations, allModels);
-        // webhooks
-        List<WebhooksMap> allWebhooks = new ArrayList<>();
-        generateWebhooks(files, allWebhooks, allModels);
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
-        generateSupportingFiles(files, bundle);
+        if (config.getRenderThreads() > 1 && !dryRun) {
+            LOGGER.info("Rendering files with {} threads", config.getRenderThreads());
+            renderExecutor = newRenderExecutor(config.getRenderThreads());
+        }
+        try {
+            // models
+            List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
+            List<ModelMap> allModels = new ArrayList<>();
+            List<ModelMap> aliasModels = new ArrayList<>();
+            generateModels(files, allModels, filteredSchemas, aliasModels);
+            // apis
+            List<OperationsMap> allOperations = new ArrayList<>();
+            generateApis(files, allOperations, allModels);
+            // webhooks
+            List<WebhooksMap> allWebhooks = new ArrayList<>();
+            generateWebhooks(files, allWebhooks, allModels);
+            // supporting files
+            Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
+            generateSupportingFiles(files, bundle);
+        } finally {
+            if (renderExecutor != null) {
+                renderExecutor.shutdownNow();
+                renderExecutor = null;
+            }
+            queuedFiles.clear();
+            SchemaReferenceIndex.invalidate(openAPI);
+        }
 
         if (dryRun) {
             boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
@@ -1342,14 +1347,12 @@ public class DefaultGenerator implements Generator {
             if (generateSupportingFiles) {
                 generateFilesMetadata(files);
             }
+            generateManifest();
         }
 
         // post-process
         config.postProcess();
 
-        // reset GlobalSettings, so that the running thread can be reused for another generator-run
-        GlobalSettings.reset();
-
         return files;
     }
 
@@ -1427,12 +1430,48 @@ public class DefaultGenerator implements Generator {
     }
 
     protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption) throws IOException {
-        return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
+        File target = prepareTargetFile(outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
+        return target == null ? null : this.templateProcessor.write(templateData, templateName, target);
     }
 
     private final Set<String> seenFiles = new HashSet<>();
 
-    private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
+    /**
+     * Renders a template to a file, then records the written file in {@code files} and post-processes it if enabled.
+     * <p>
+     * When rendering on several threads, the file is only queued here. Queued files are rendered concurrently by
+     * {@link #renderQueuedFiles()} once all template data of the current stage has been built, and recorded in the
+     * order they were queued, so the result does not depend on thread scheduling.
+     * <p>
+     * On incremental runs, a file whose inputs have the same fingerprint as on the previous run is kept as is, but still
+     * post-processed. It is still queued when rendering on several threads, so that it is recorded in order with the
+     * rendered files.
+     */
+    private void processTemplateToFile(List<File> files, String fileType, Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir, String inputFingerprint) throws IOException {
+        File target = prepareTargetFile(outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+        if (target == null) {
+            return;
+        }
+        if (isUnchangedSincePreviousRun(target, fileType, templateName, inputFingerprint)) {
+            this.templateProcessor.skip(target.toPath(), "Inputs unchanged since the previous incremental generation.");
+            if (renderExecutor == null) {
+                recordWrittenFile(files, fileType, target);
+            } else {
+                queuedFiles.add(new QueuedFile(files, fileType, target, null));
+            }
+            return;
+        }
+        if (renderExecutor == null) {
+            recordWrittenFile(files, fileType, this.templateProcessor.write(templateData, templateName, target));
+        } else {
+            queuedFiles.add(new QueuedFile(files, fileType, target, () -> this.templateProcessor.write(templateData, templateName, target)));
+        }
+    }
+
+    /**
+     * Determines the file a template should be written to, or null if the file is ignored or skipped.
+     */
+    private File prepareTargetFile(String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         File target = new File(adjustedOutputFilename);
         if (ignoreProcessor.allowsFile(target)) {
@@ -1447,7 +1486,7 @@ public class DefaultGenerator implements Generator {
                     LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
                 }
                 seenFiles.add(absoluteTarget.toString());
-                return this.templateProcessor.write(templateData, templateName, target);
+                return target;
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
                 return null;
@@ -1458,6 +1497,101 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    /**
+     * Records the fingerprint of the target in the manifest, and checks whether the previous run rendered it from the
+     * same inputs.
+     */
+    private boolean isUnchangedSincePreviousRun(File target, String fileType, String templateName, String inputFingerprint) {
+        if (manifest == null) {
+            return false;
+        }
+        String fingerprint = inputFingerprints.forFile(inputFingerprint, templateName, fileType);
+        if (fingerprint == null) {
+            return false;
+        }
+        String relativePath = absPath(new File(config.getOutputDir())).relativize(absPath(target)).normalize().toString().replace(File.separatorChar, '/');
+        return manifest.record(relativePath, fingerprint) && target.isFile();
+    }
+
+    private void recordWrittenFile(List<File> files, String fileType, File written) {
+        if (written != null) {
+            files.add(written);
+            if (config.isEnablePostProcessFile() && !dryRun) {
+                config.postProcessFile(written, fileType);
+            }
+        }
+    }
+
+    /**
+     * Renders all queued files on the render threads, then records and post-processes them, and the queued files kept
+     * from the previous run, in the order they were queued.
+     */
+    private void renderQueuedFiles() {
+        if (queuedFiles.isEmpty()) {
+            return;
+        }
+        NameCaches nameCaches = config.getNameCaches();
+        List<QueuedFile> toRender = new ArrayList<>(queuedFiles);
+        queuedFiles.clear();
+
+        List<Future<File>> rendered = new ArrayList<>(toRender.size());
+        for (QueuedFile queuedFile : toRender) {
+            if (queuedFile.render == null) {
+                rendered.add(null);
+                continue;
+            }
+            rendered.add(renderExecutor.submit(() -> {
+                try (GlobalSettings.Scope ignoredSettings = GlobalSettings.bind(globalSettings);
+                     NameCaches.Scope ignoredCaches = nameCaches.bind()) {
+                    return queuedFile.render.call();
+                }
+            }));
+        }
+        try {
+            for (int i = 0; i < toRender.size(); i++) {
+                QueuedFile queuedFile = toRender.get(i);
+                File written = queuedFile.target;
+                if (queuedFile.render != null) {
+                    try {
+                        written = rendered.get(i).get();
+                    } catch (ExecutionException e) {
+                        throw new RuntimeException("Could not generate file '" + queuedFile.target + "'", e.getCause());
+                    }
+                }
+                recordWrittenFile(queuedFile.files, queuedFile.fileType, written);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rendering files", e);
+        } finally {
+            rendered.stream().filter(Objects::nonNull).forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static ExecutorService newRenderExecutor(int renderThreads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(renderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-render-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class QueuedFile {
+        private final List<File> files;
+        private final String fileType;
+        private final File target;
+        // null for a file kept from the previous run, which is recorded without rendering it
+        private final Callable<File> render;
+
+        private QueuedFile(List<File> files, String fileType, File target, Callable<File> render) {
+            this.files = files;
+            this.fileType = fileType;
+            this.target = target;
+            this.render = render;
+        }
+    }
+
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<>();
         // when input file is not valid and doesn't contain any paths
@@ -2019,6 +2153,27 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    private Path getManifestPath() {
+        return java.nio.file.Paths.get(config.outputFolder(), METADATA_DIR, GenerationManifest.FILENAME);
+    }
+
+    /**
+     * Writes the fingerprints of the inputs of generated files to .openapi-generator/MANIFEST on incremental runs.
+     * Other runs remove the manifest, as the files it describes may have been rendered from different inputs since.
+     */
+    private void generateManifest() {
+        Path manifestPath = getManifestPath();
+        try {
+            if (manifest != null) {
+                manifest.write(manifestPath);
+            } else {
+                Files.deleteIfExists(manifestPath);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to update {} tracking the inputs of generated files.", manifestPath, e);
+        }
+    }
+
     private String removeTrailingSlash(String value) {
         return StringUtils.removeEnd(value, "/");
     }
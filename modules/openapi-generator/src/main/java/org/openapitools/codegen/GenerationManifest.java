@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.apache.commons.io.IOCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tracks the fingerprint of the inputs each generated file was rendered from, so that an incremental run only
+ * re-renders files whose inputs changed.
+ * <p>
+ * The manifest is stored as {@code .openapi-generator/MANIFEST}, one {@code <fingerprint>  <path>} line per file, with
+ * paths relative to the output directory and using forward slashes like {@code .openapi-generator/FILES}.
+ */
+public class GenerationManifest {
+    public static final String FILENAME = "MANIFEST";
+
+    private final Map<String, String> previous;
+    private final Map<String, String> current = new TreeMap<>((a, b) -> IOCase.SENSITIVE.checkCompareTo(a, b));
+
+    GenerationManifest(Map<String, String> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Reads the manifest written by the previous incremental run.
+     *
+     * @param file the manifest file
+     * @return the manifest, empty if the file does not exist or cannot be read
+     */
+    public static GenerationManifest read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new GenerationManifest(Collections.emptyMap());
+        }
+        Map<String, String> previous = new HashMap<>();
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                int separator = line.indexOf("  ");
+                if (separator > 0) {
+                    previous.put(line.substring(separator + 2), line.substring(0, separator));
+                }
+            }
+        } catch (IOException e) {
+            // an unreadable manifest only means everything is rendered again
+            return new GenerationManifest(Collections.emptyMap());
+        }
+        return new GenerationManifest(previous);
+    }
+
+    /**
+     * Records the fingerprint of a file rendered (or kept) by the current run.
+     *
+     * @param path        the path of the file, relative to the output directory
+     * @param fingerprint the fingerprint of the inputs of the file
+     * @return true if the previous run rendered the file from the same inputs
+     */
+    public boolean record(String path, String fingerprint) {
+        current.put(path, fingerprint);
+        return fingerprint.equals(previous.get(path));
+    }
+
+    /**
+     * Writes the fingerprints recorded by the current run.
+     *
+     * @param file the manifest file
+     * @throws IOException if the manifest could not be written
+     */
+    public void write(Path file) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        current.forEach((path, fingerprint) -> sb.append(fingerprint).append("  ").append(path).append('\n'));
+        Files.createDirectories(file.getParent());
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -17,10 +17,13 @@
 
 package org.openapitools.codegen;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.*;
 import io.swagger.v3.oas.models.PathItem.HttpMethod;
@@ -36,12 +39,15 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
 public class InlineModelResolver {
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    // the models generated for inline schemas by the fingerprints of their structure
+    private Map<HashCode, List<GeneratedModel>> generatedSignature = new HashMap<>();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -756,24 +762,112 @@ public class InlineModelResolver {
             return null;
         }
 
-        try {
-            String json = structureMapper.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
+        HashCode signature = signature(model);
+        if (signature == null) {
+            return null;
+        }
+        // the fingerprints of different schemas may collide, so the model is only reused if its schema is the same
+        for (GeneratedModel generated : generatedSignature.getOrDefault(signature, Collections.emptyList())) {
+            if (generated.schema.equals(model)) {
+                return generated.name;
             }
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
         }
-
         return null;
     }
 
     private void addGenerated(String name, Schema model) {
+        HashCode signature = signature(model);
+        if (signature != null) {
+            List<GeneratedModel> generated = generatedSignature.computeIfAbsent(signature, k -> new ArrayList<>(1));
+            generated.removeIf(existing -> existing.schema.equals(model));
+            generated.add(new GeneratedModel(name, model));
+        }
+    }
+
+    /**
+     * Fingerprints the structure of a schema, i.e. its JSON serialization with sorted properties, without building the
+     * serialization.
+     *
+     * @param model the schema
+     * @return the fingerprint, or null if the schema contains itself and cannot be serialized
+     */
+    HashCode signature(Schema model) {
+        if (containsItself(model, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            return null;
+        }
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        try (OutputStream out = Funnels.asOutputStream(hasher)) {
+            structureMapper.writeValue(out, model);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to serialize the inline schema {}, which will not be reused", model.getTitle(), e);
+            return null;
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * @param schema  the schema
+     * @param parents the schemas containing the schema, by identity
+     * @return true if one of the parents is also nested in the schema
+     */
+    private static boolean containsItself(Schema schema, Set<Schema> parents) {
+        if (schema == null) {
+            return false;
+        }
+        if (!parents.add(schema)) {
+            return true;
+        }
         try {
-            String json = structureMapper.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
+            return containsItself(schema.getProperties(), parents)
+                    || containsItself(schema.getPatternProperties(), parents)
+                    || containsItself(schema.getDependentSchemas(), parents)
+                    || containsItself(schema.getAllOf(), parents)
+                    || containsItself(schema.getAnyOf(), parents)
+                    || containsItself(schema.getOneOf(), parents)
+                    || containsItself(schema.getPrefixItems(), parents)
+                    || containsItself(schema.getItems(), parents)
+                    || (schema.getAdditionalProperties() instanceof Schema
+                        && containsItself((Schema) schema.getAdditionalProperties(), parents))
+                    || containsItself(schema.getNot(), parents)
+                    || containsItself(schema.getContains(), parents)
+                    || containsItself(schema.getIf(), parents)
+                    || containsItself(schema.getThen(), parents)
+                    || containsItself(schema.getElse(), parents)
+                    || containsItself(schema.getPropertyNames(), parents)
+                    || containsItself(schema.getAdditionalItems(), parents)
+                    || containsItself(schema.getUnevaluatedItems(), parents)
+                    || containsItself(schema.getUnevaluatedProperties(), parents)
+                    || containsItself(schema.getContentSchema(), parents);
+        } finally {
+            parents.remove(schema);
+        }
+    }
+
+    private static boolean containsItself(Map<String, Schema> schemas, Set<Schema> parents) {
+        return schemas != null && containsItself(schemas.values(), parents);
+    }
+
+    private static boolean containsItself(Collection<Schema> schemas, Set<Schema> parents) {
+        if (schemas != null) {
+            for (Schema schema : schemas) {
+                if (containsItself(schema, parents)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A model generated for an inline schema.
+     */
+    private static class GeneratedModel {
+        private final String name;
+        private final Schema schema;
+
+        private GeneratedModel(String name, Schema schema) {
+            this.name = name;
+            this.schema = schema;
         }
     }
 
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.utils.ImplementationVersion;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Computes fingerprints of the inputs generated files are rendered from, for incremental generation.
+ * <p>
+ * The fingerprint of a file combines:
+ * <ul>
+ *     <li>the generator, its version and options (additional properties and mappings),</li>
+ *     <li>the document-level parts of the specification (info, servers, security, tags),</li>
+ *     <li>the schema (for models) or the path items of the tag operations (for APIs), along with every component they
+ *     reference, directly or transitively, including the targets of discriminator mappings,</li>
+ *     <li>the schemas composing a model through allOf/oneOf/anyOf, transitively, and those composing any schema with a
+ *     discriminator the file depends on, as generators list the subtypes of such schemas,</li>
+ *     <li>for models, every schema of the document when the generator post-processes all models itself, as it may then
+ *     derive a model from any other model,</li>
+ *     <li>the contents of the template and the partials it includes.</li>
+ * </ul>
+ * A null fingerprint means the inputs could not be determined, and the file must always be rendered.
+ */
+class InputFingerprints {
+    private static final Pattern PARTIAL = Pattern.compile("\\{\\{\\s*#?>\\s*([^\\s}]+)");
+    private static final String COMPONENTS_PREFIX = "#/components/";
+
+    private final CodegenConfig config;
+    private final TemplatingExecutor templates;
+    private final JsonNode components;
+    private final JsonNode paths;
+    private final String specFingerprint;
+    // null unless the models depend on every schema
+    private final String schemasFingerprint;
+    private final Map<String, Set<String>> composedChildren = new HashMap<>();
+    private final Map<String, String> templateFingerprints = new HashMap<>();
+    private String optionsFingerprint;
+
+    InputFingerprints(CodegenConfig config, OpenAPI openAPI, TemplatingExecutor templates) {
+        this.config = config;
+        this.templates = templates;
+
+        ObjectNode spec = Json.mapper().valueToTree(openAPI);
+        this.components = spec.path("components");
+        this.paths = spec.path("paths");
+        spec.remove("components");
+        spec.remove("paths");
+        spec.remove("webhooks");
+        spec.set("securitySchemes", components.path("securitySchemes"));
+        this.specFingerprint = hash(spec.toString());
+
+        Iterator<Map.Entry<String, JsonNode>> schemas = components.path("schemas").fields();
+        while (schemas.hasNext()) {
+            Map.Entry<String, JsonNode> schema = schemas.next();
+            for (String composition : new String[]{"allOf", "oneOf", "anyOf"}) {
+                for (JsonNode composed : schema.getValue().path(composition)) {
+                    String ref = composed.path("$ref").asText("");
+                    if (ref.startsWith(COMPONENTS_PREFIX + "schemas/")) {
+                        composedChildren.computeIfAbsent(componentKey(ref), k -> new LinkedHashSet<>())
+                                .add("schemas/" + schema.getKey());
+                    }
+                }
+            }
+        }
+
+        this.schemasFingerprint = postProcessesAllModels(config) ? hash(components.path("schemas").toString()) : null;
+
+        refreshOptions();
+    }
+
+    /**
+     * Determines whether the generator post-processes all models beyond the parents, children and discriminators set
+     * by {@link DefaultCodegen#postProcessAllModels(Map)}.
+     */
+    private static boolean postProcessesAllModels(CodegenConfig config) {
+        try {
+            return config.getClass().getMethod("postProcessAllModels", Map.class).getDeclaringClass() != DefaultCodegen.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Takes a new snapshot of the generator options, which generators may update while processing models and operations.
+     */
+    void refreshOptions() {
+        Map<String, Object> properties = new TreeMap<>(config.additionalProperties());
+        // the timestamp differs on every run, the file is only rendered again when its other inputs change
+        properties.remove("generatedDate");
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(canonical(config.getClass().getName()))
+                .append(canonical(config.getName()))
+                .append(canonical(ImplementationVersion.read()))
+                .append(canonical(config.getLibrary()))
+                .append(canonical(config.templateDir()))
+                .append(canonical(config.embeddedTemplateDir()))
+                .append(canonical(config.getTemplatingEngine() == null ? null : config.getTemplatingEngine().getIdentifier()))
+                .append(canonical(properties));
+        for (Map<String, String> mapping : Arrays.asList(config.typeMapping(), config.instantiationTypes(), config.importMapping(),
+                config.schemaMapping(), config.inlineSchemaNameMapping(), config.inlineSchemaOption(), config.nameMapping(),
+                config.parameterNameMapping(), config.modelNameMapping(), config.enumNameMapping(),
+                config.operationIdNameMapping(), config.openapiNormalizer(), config.reservedWordsMappings(),
+                config.serverVariableOverrides(), config.templateOutputDirs())) {
+            sb.append(canonical(mapping));
+        }
+        sb.append(canonical(config.languageSpecificPrimitives()));
+        this.optionsFingerprint = hash(sb.toString());
+    }
+
+    /**
+     * @param schemaName the name of a schema in components/schemas
+     * @return the fingerprint of the schema and the components it depends on, or null if the schema is unknown
+     */
+    String forSchema(String schemaName) {
+        String key = "schemas/" + schemaName;
+        if (resolve(key) == null) {
+            return null;
+        }
+        Set<String> roots = new LinkedHashSet<>();
+        roots.add(key);
+        addComposingSchemas(key, roots::add);
+        String fingerprint = hashWithReferences(roots, this::resolve);
+        return schemasFingerprint == null ? fingerprint : hash(fingerprint + "\n" + schemasFingerprint);
+    }
+
+    /**
+     * @param operations the operations of a tag
+     * @return the fingerprint of the path items declaring the operations and the components they depend on, or null
+     * if an operation cannot be mapped back to its path item
+     */
+    String forOperations(Collection<CodegenOperation> operations) {
+        Set<String> roots = new LinkedHashSet<>();
+        for (CodegenOperation operation : operations) {
+            if (operation.path == null || !paths.has(operation.path)) {
+                return null;
+            }
+            roots.add("paths/" + operation.path);
+        }
+        return hashWithReferences(roots, key -> key.startsWith("paths/") ? paths.get(key.substring("paths/".length())) : resolve(key));
+    }
+
+    /**
+     * @param inputFingerprint the fingerprint of the schema or operations, may be null
+     * @param templateName     the template rendering the file
+     * @param fileType         the type of file, e.g. model or api-doc
+     * @return the fingerprint of all inputs of the file, or null if it must always be rendered
+     */
+    String forFile(String inputFingerprint, String templateName, String fileType) {
+        if (inputFingerprint == null) {
+            return null;
+        }
+        String templateFingerprint = templateFingerprints.computeIfAbsent(templateName, this::templateFingerprint);
+        if (templateFingerprint.isEmpty()) {
+            return null;
+        }
+        return hash(String.join("\n", optionsFingerprint, specFingerprint, inputFingerprint, templateFingerprint, fileType));
+    }
+
+    private String templateFingerprint(String templateName) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        Set<String> visited = new LinkedHashSet<>();
+        List<String> pending = new ArrayList<>();
+        pending.add(templateName);
+        while (!pending.isEmpty()) {
+            String name = pending.remove(pending.size() - 1);
+            if (!visited.add(name)) {
+                continue;
+            }
+            String contents;
+            try {
+                contents = templates.getFullTemplateContents(name);
+            } catch (RuntimeException e) {
+                if (name.equals(templateName)) {
+                    return "";
+                }
+                // not every {{>name}} match is a partial the engine resolves, e.g. within comments
+                continue;
+            }
+            hasher.putString(name, StandardCharsets.UTF_8).putString(contents, StandardCharsets.UTF_8);
+
+            Matcher matcher = PARTIAL.matcher(contents);
+            while (matcher.find()) {
+                String partial = matcher.group(1);
+                for (String extension : config.getTemplatingEngine().getFileExtensions()) {
+                    pending.add(partial + "." + extension);
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private String hashWithReferences(Set<String> roots, Function<String, JsonNode> resolver) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        List<String> keys = new ArrayList<>(roots);
+        Set<String> seen = new LinkedHashSet<>(roots);
+        Consumer<String> dependency = ref -> {
+            if (seen.add(ref)) {
+                keys.add(ref);
+            }
+        };
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            JsonNode node = resolver.apply(key);
+            hasher.putString(key, StandardCharsets.UTF_8).putString(String.valueOf(node), StandardCharsets.UTF_8);
+            if (node != null) {
+                collectReferences(node, dependency);
+                if (node.has("discriminator") && key.startsWith("schemas/")) {
+                    addComposingSchemas(key, dependency);
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Adds the schemas composing the given schema through allOf/oneOf/anyOf, and those composing them in turn.
+     */
+    private void addComposingSchemas(String key, Consumer<String> schemas) {
+        Set<String> visited = new LinkedHashSet<>();
+        List<String> pending = new ArrayList<>(composedChildren.getOrDefault(key, Set.of()));
+        while (!pending.isEmpty()) {
+            String child = pending.remove(pending.size() - 1);
+            if (visited.add(child)) {
+                schemas.accept(child);
+                pending.addAll(composedChildren.getOrDefault(child, Set.of()));
+            }
+        }
+    }
+
+    private static void collectReferences(JsonNode node, Consumer<String> references) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if ("$ref".equals(field.getKey()) && field.getValue().isTextual()) {
+                    String ref = field.getValue().asText();
+                    if (ref.startsWith(COMPONENTS_PREFIX)) {
+                        references.accept(componentKey(ref));
+                    }
+                } else {
+                    if ("discriminator".equals(field.getKey())) {
+                        // mapping values are either refs or the names of schemas
+                        for (JsonNode mapped : field.getValue().path("mapping")) {
+                            String ref = mapped.asText("");
+                            if (ref.startsWith(COMPONENTS_PREFIX)) {
+                                references.accept(componentKey(ref));
+                            } else if (!ref.isEmpty() && !ref.contains("/")) {
+                                references.accept("schemas/" + ref);
+                            }
+                        }
+                    }
+                    collectReferences(field.getValue(), references);
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                collectReferences(element, references);
+            }
+        }
+    }
+
+    private static String componentKey(String ref) {
+        return ref.substring(COMPONENTS_PREFIX.length());
+    }
+
+    private JsonNode resolve(String key) {
+        int separator = key.indexOf('/');
+        if (separator < 0) {
+            return null;
+        }
+        String name = key.substring(separator + 1).replace("~1", "/").replace("~0", "~");
+        return components.path(key.substring(0, separator)).get(name);
+    }
+
+    /**
+     * Returns a stable representation of option values, or null for values which have no stable representation
+     * (e.g. lambdas), which are left out of the fingerprint.
+     */
+    private static String canonical(Object value) {
+        if (value == null) {
+            return "~";
+        }
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum) {
+            String string = value.toString();
+            return string.length() + ":" + string;
+        }
+        if (value instanceof Map) {
+            Map<String, String> entries = new TreeMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> {
+                String canonicalValue = canonical(v);
+                if (canonicalValue != null) {
+                    entries.put(String.valueOf(k), canonicalValue);
+                }
+            });
+            StringBuilder sb = new StringBuilder("{");
+            entries.forEach((k, v) -> sb.append(canonical(k)).append('=').append(v));
+            return sb.append('}').toString();
+        }
+        if (value instanceof Collection) {
+            List<String> elements = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                String canonicalElement = canonical(element);
+                if (canonicalElement != null) {
+                    elements.add(canonicalElement);
+                }
+            }
+            if (value instanceof Set) {
+                elements.sort(null);
+            }
+            return "[" + String.join(",", elements) + "]";
+        }
+        return null;
+    }
+
+    private static String hash(String value) {
+        return Hashing.sha256().hashString(value, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -34,6 +34,8 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -153,6 +155,15 @@ public class OpenAPINormalizer {
 
     // ============= end of rules =============
 
+    // the schemas normalized so far by normalize(), by identity, so that schemas reachable from several places (e.g.
+    // responses, request bodies or parameters referenced by several operations) are normalized once
+    private Map<Schema, Schema> normalizedSchemas;
+
+    // the time spent in each rule by normalize(), excluding the normalization nested in it, when debug logging is enabled
+    private Map<String, Long> ruleNanos;
+    // the start time and the time spent in nested rules of the rules being applied, innermost first
+    private Deque<long[]> appliedRules;
+
     /**
      * Factory constructor for OpenAPINormalizer.
      *
@@ -351,12 +362,130 @@ public class OpenAPINormalizer {
             this.openAPI.getComponents().setSchemas(new HashMap<String, Schema>());
         }
 
-        normalizeInfo();
-        normalizePaths();
-        normalizeComponentsSecuritySchemes();
-        normalizeComponentsSchemas();
-        normalizeComponentsResponses();
-        normalizeComponentsHeaders();
+        // the sections of the document are normalized one after the other, but the schemas reachable from several
+        // places (e.g. the content of a response referenced by several operations) are only normalized the first time
+        normalizedSchemas = new IdentityHashMap<>();
+        if (LOGGER.isDebugEnabled()) {
+            ruleNanos = new TreeMap<>();
+            appliedRules = new ArrayDeque<>();
+        }
+        long start = System.nanoTime();
+        try {
+            normalizeInfo();
+            normalizePaths();
+            timed(SET_BEARER_AUTH_FOR_NAME, this::normalizeComponentsSecuritySchemes);
+            normalizeComponentsSchemas();
+            normalizeComponentsResponses();
+            normalizeComponentsHeaders();
+        } finally {
+            normalizedSchemas = null;
+            if (ruleNanos != null) {
+                logRuleTimings(System.nanoTime() - start);
+                ruleNanos = null;
+                appliedRules = null;
+            }
+        }
+    }
+
+    private void logRuleTimings(long totalNanos) {
+        long ruleTotalNanos = 0;
+        for (Map.Entry<String, Long> entry : ruleNanos.entrySet()) {
+            LOGGER.debug("OpenAPI Normalizer rule {} took {} ms", entry.getKey(), entry.getValue() / 1_000_000);
+            ruleTotalNanos += entry.getValue();
+        }
+        LOGGER.debug("OpenAPI Normalizer took {} ms, of which {} ms in rules", totalNanos / 1_000_000, ruleTotalNanos / 1_000_000);
+    }
+
+    /**
+     * Applies a rule to a node of the document, timing it when debug logging is enabled.
+     *
+     * @param rule    the name of the rule
+     * @param node    the node to apply the rule to
+     * @param process the rule
+     */
+    private <T> void timed(String rule, T node, BiConsumer<OpenAPINormalizer, T> process) {
+        if (ruleNanos == null) {
+            process.accept(this, node);
+            return;
+        }
+        long[] applied = startRule();
+        try {
+            process.accept(this, node);
+        } finally {
+            endRule(rule, applied);
+        }
+    }
+
+    private void timed(String rule, Runnable process) {
+        timed(rule, process, (normalizer, runnable) -> runnable.run());
+    }
+
+    /**
+     * Applies a rule to a schema, timing it when debug logging is enabled.
+     *
+     * @param rule    the name of the rule
+     * @param schema  the schema to apply the rule to
+     * @param process the rule
+     * @return the schema returned by the rule
+     */
+    private Schema timedSchema(String rule, Schema schema, BiFunction<OpenAPINormalizer, Schema, Schema> process) {
+        if (ruleNanos == null) {
+            return process.apply(this, schema);
+        }
+        long[] applied = startRule();
+        try {
+            return process.apply(this, schema);
+        } finally {
+            endRule(rule, applied);
+        }
+    }
+
+    private long[] startRule() {
+        long[] applied = {System.nanoTime(), 0};
+        appliedRules.push(applied);
+        return applied;
+    }
+
+    /**
+     * Stops timing a rule, excluding the time spent in the rules nested in it.
+     */
+    private void endRule(String rule, long[] applied) {
+        appliedRules.pop();
+        long elapsed = System.nanoTime() - applied[0];
+        ruleNanos.merge(rule, elapsed - applied[1], Long::sum);
+        long[] outer = appliedRules.peek();
+        if (outer != null) {
+            outer[1] += elapsed;
+        }
+    }
+
+    /**
+     * Normalizes a schema of the document, unless it has been normalized already, e.g. as the content of a response
+     * referenced by several operations.
+     *
+     * @param schema Schema
+     * @return the normalized schema
+     */
+    private Schema normalizeSchemaOnce(Schema schema) {
+        if (schema == null || normalizedSchemas == null) {
+            return normalizeSchema(schema, newVisitedSchemas());
+        }
+
+        Schema normalized = normalizedSchemas.get(schema);
+        if (normalized == null) {
+            normalized = normalizeSchema(schema, newVisitedSchemas());
+            normalizedSchemas.put(schema, normalized);
+            // the normalized schema may replace the original one, e.g. as the schema of a media type
+            normalizedSchemas.put(normalized, normalized);
+        }
+        return normalized;
+    }
+
+    /**
+     * @return a new set of visited schemas, comparing schemas by identity rather than by (deep) equality
+     */
+    protected Set<Schema> newVisitedSchemas() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
     /**
@@ -402,7 +531,7 @@ public class OpenAPINormalizer {
                 if (filter.parse()) {
                     // Iterates over each HTTP method in methodMap, retrieves the corresponding Operations from the PathItem,
                     // and marks it as internal (`x-internal=true`) if the method/operationId/tag/path is not in the filters.
-                    filter.apply(pathsEntry.getKey(), path, methodMap);
+                    timed(FILTER, () -> filter.apply(pathsEntry.getKey(), path, methodMap));
                 }
             }
 
@@ -435,17 +564,17 @@ public class OpenAPINormalizer {
      * @param operation Operation
      */
     protected void normalizeOperation(Operation operation) {
-        processRemoveXInternalFromOperation(operation);
+        timed(REMOVE_X_INTERNAL, operation, OpenAPINormalizer::processRemoveXInternalFromOperation);
 
-        processKeepOnlyFirstTagInOperation(operation);
+        timed(KEEP_ONLY_FIRST_TAG_IN_OPERATION, operation, OpenAPINormalizer::processKeepOnlyFirstTagInOperation);
 
-        processSetTagsForAllOperations(operation);
+        timed(SET_TAGS_FOR_ALL_OPERATIONS, operation, OpenAPINormalizer::processSetTagsForAllOperations);
 
-        processSetTagsToOperationId(operation);
+        timed(SET_TAGS_TO_OPERATIONID, operation, OpenAPINormalizer::processSetTagsToOperationId);
 
-        processSetTagsToVendorExtension(operation);
+        timed(SET_TAGS_TO_VENDOR_EXTENSION, operation, OpenAPINormalizer::processSetTagsToVendorExtension);
 
-        processFixDuplicatedOperationId(operation);
+        timed(FIX_DUPLICATED_OPERATIONID, operation, OpenAPINormalizer::processFixDuplicatedOperationId);
     }
 
     /**
@@ -465,7 +594,7 @@ public class OpenAPINormalizer {
             } else if (mediaType.getSchema() == null) {
                 continue;
             } else {
-                Schema newSchema = normalizeSchema(mediaType.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchemaOnce(mediaType.getSchema());
                 mediaType.setSchema(newSchema);
             }
         }
@@ -513,7 +642,7 @@ public class OpenAPINormalizer {
             }
 
             if (parameter.getSchema() != null) {
-                Schema newSchema = normalizeSchema(parameter.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchemaOnce(parameter.getSchema());
                 parameter.setSchema(newSchema);
             }
         }
@@ -571,7 +700,7 @@ public class OpenAPINormalizer {
                 //    example: null
                 //    content: null
                 //    $ref: #/components/headers/Location
-                Schema updatedHeader = normalizeSchema(h.getSchema(), new HashSet<>());
+                Schema updatedHeader = normalizeSchemaOnce(h.getSchema());
                 h.setSchema(updatedHeader);
             }
         }
@@ -633,7 +762,7 @@ public class OpenAPINormalizer {
                 fixSelfReferenceSchema(schemaName, schema);
 
                 // normalize the schemas
-                schemas.put(schemaName, normalizeSchema(schema, new HashSet<>()));
+                schemas.put(schemaName, normalizeSchemaOnce(schema));
             }
         }
     }
@@ -736,7 +865,7 @@ public class OpenAPINormalizer {
 
         markSchemaAsVisited(schema, visitedSchemas);
 
-        processNormalizeOtherThanObjectWithProperties(schema);
+        timed(REMOVE_PROPERTIES_FROM_TYPE_OTHER_THAN_OBJECT, schema, OpenAPINormalizer::processNormalizeOtherThanObjectWithProperties);
 
         if (ModelUtils.isArraySchema(schema)) { // array
             Schema result = normalizeArraySchema(schema);
@@ -857,27 +986,27 @@ public class OpenAPINormalizer {
     }
 
     protected Schema normalizeArraySchema(Schema schema) {
-        Schema result = processNormalize31Spec(schema, new HashSet<>());
-        return processSetArraytoNullable(result);
+        Schema result = timedSchema(NORMALIZE_31SPEC, schema, (normalizer, s) -> normalizer.processNormalize31Spec(s, newVisitedSchemas()));
+        return timedSchema(SET_CONTAINER_TO_NULLABLE, result, OpenAPINormalizer::processSetArraytoNullable);
     }
 
     protected Schema normalizeMapSchema(Schema schema) {
-        return processSetMapToNullable(schema);
+        return timedSchema(SET_CONTAINER_TO_NULLABLE, schema, OpenAPINormalizer::processSetMapToNullable);
     }
 
     protected Schema normalizeSimpleSchema(Schema schema, Set<Schema> visitedSchemas) {
-        Schema result = processNormalize31Spec(schema, visitedSchemas);
-        return processSetPrimitiveTypesToNullable(result);
+        Schema result = timedSchema(NORMALIZE_31SPEC, schema, (normalizer, s) -> normalizer.processNormalize31Spec(s, visitedSchemas));
+        return timedSchema(SET_PRIMITIVE_TYPES_TO_NULLABLE, result, OpenAPINormalizer::processSetPrimitiveTypesToNullable);
     }
 
     protected void normalizeBooleanSchema(Schema schema, Set<Schema> visitedSchemas) {
-        processSimplifyBooleanEnum(schema);
-        processSetPrimitiveTypesToNullable(schema);
+        timed(SIMPLIFY_BOOLEAN_ENUM, schema, OpenAPINormalizer::processSimplifyBooleanEnum);
+        timed(SET_PRIMITIVE_TYPES_TO_NULLABLE, schema, OpenAPINormalizer::processSetPrimitiveTypesToNullable);
     }
 
     protected void normalizeIntegerSchema(Schema schema, Set<Schema> visitedSchemas) {
-        processAddUnsignedToIntegerWithInvalidMaxValue(schema);
-        processSetPrimitiveTypesToNullable(schema);
+        timed(ADD_UNSIGNED_TO_INTEGER_WITH_INVALID_MAX_VALUE, schema, OpenAPINormalizer::processAddUnsignedToIntegerWithInvalidMaxValue);
+        timed(SET_PRIMITIVE_TYPES_TO_NULLABLE, schema, OpenAPINormalizer::processSetPrimitiveTypesToNullable);
     }
 
     protected void normalizeProperties(Map<String, Schema> properties, Set<Schema> visitedSchemas) {
@@ -900,7 +1029,7 @@ public class OpenAPINormalizer {
                     property.getExtensions().remove(X_INTERNAL);
                 }
             }
-            Schema newProperty = normalizeSchema(property, new HashSet<>());
+            Schema newProperty = normalizeSchema(property, newVisitedSchemas());
             propertiesEntry.setValue(newProperty);
         }
     }
@@ -997,7 +1126,7 @@ public class OpenAPINormalizer {
         }
 
         // process rules here
-        processUseAllOfRefAsParent(schema);
+        timed(REF_AS_PARENT_IN_ALLOF, schema, OpenAPINormalizer::processUseAllOfRefAsParent);
 
         return schema;
     }
@@ -1010,7 +1139,7 @@ public class OpenAPINormalizer {
         }
 
         // process rule to refactor properties into allOf sub-schema
-        schema = processRefactorAllOfWithPropertiesOnly(schema);
+        schema = timedSchema(REFACTOR_ALLOF_WITH_PROPERTIES_ONLY, schema, OpenAPINormalizer::processRefactorAllOfWithPropertiesOnly);
 
         for (Object item : schema.getAllOf()) {
             if (!(item instanceof Schema)) {
@@ -1027,10 +1156,10 @@ public class OpenAPINormalizer {
         // Remove duplicate oneOf entries
         ModelUtils.deduplicateOneOfSchema(schema);
 
-        schema = processSimplifyOneOfEnum(schema);
+        schema = timedSchema(SIMPLIFY_ONEOF_ANYOF_ENUM, schema, OpenAPINormalizer::processSimplifyOneOfEnum);
 
         // simplify first as the schema may no longer be a oneOf after processing the rule below
-        schema = processSimplifyOneOf(schema);
+        schema = timedSchema(SIMPLIFY_ONEOF_ANYOF, schema, OpenAPINormalizer::processSimplifyOneOf);
 
         // if it's still a oneOf, loop through the sub-schemas
         if (schema.getOneOf() != null) {
@@ -1058,7 +1187,7 @@ public class OpenAPINormalizer {
 
     protected Schema normalizeAnyOf(Schema schema, Set<Schema> visitedSchemas) {
         //transform anyOf into enums if needed
-        schema = processSimplifyAnyOfEnum(schema);
+        schema = timedSchema(SIMPLIFY_ONEOF_ANYOF_ENUM, schema, OpenAPINormalizer::processSimplifyAnyOfEnum);
         if (schema.getAnyOf() == null) {
             return schema;
         }
@@ -1080,10 +1209,11 @@ public class OpenAPINormalizer {
         }
 
         // process rules here
-        schema = processSimplifyAnyOf(schema);
+        schema = timedSchema(SIMPLIFY_ONEOF_ANYOF, schema, OpenAPINormalizer::processSimplifyAnyOf);
 
         // last rule to process as the schema may become String schema (not "anyOf") after the completion
-        return normalizeSchema(processSimplifyAnyOfStringAndEnumString(schema), visitedSchemas);
+        schema = timedSchema(SIMPLIFY_ANYOF_STRING_AND_ENUM_STRING, schema, OpenAPINormalizer::processSimplifyAnyOfStringAndEnumString);
+        return normalizeSchema(schema, visitedSchemas);
     }
 
     protected Schema normalizeComplexComposedSchema(Schema schema, Set<Schema> visitedSchemas) {
@@ -1092,7 +1222,7 @@ public class OpenAPINormalizer {
             normalizeProperties(schema.getProperties(), visitedSchemas);
         }
 
-        processRemoveAnyOfOneOfAndKeepPropertiesOnly(schema);
+        timed(REMOVE_ANYOF_ONEOF_AND_KEEP_PROPERTIES_ONLY, schema, OpenAPINormalizer::processRemoveAnyOfOneOfAndKeepPropertiesOnly);
 
         return normalizeSchema(schema, visitedSchemas);
     }
@@ -1750,7 +1880,7 @@ public class OpenAPINormalizer {
 
         // at this point the schema becomes a simple allOf (no properties) with an additional schema containing
         // the properties. Normalize it before returning.
-        return normalizeSchema(schema, new HashSet<>());
+        return normalizeSchema(schema, newVisitedSchemas());
     }
 
     /**
@@ -14,22 +14,27 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 /**
  * Manages the lookup, compilation, and writing of template files
  */
 public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
+    private static final AtomicLong INSTANCE_COUNTER = new AtomicLong();
+
     private final TemplateManagerOptions options;
     private final TemplatingEngineAdapter engineAdapter;
     private final TemplatePathLocator[] templateLoaders;
+    private final String instanceScope = "instance:" + INSTANCE_COUNTER.incrementAndGet();
 
     private final Logger LOGGER = LoggerFactory.getLogger(TemplateManager.class);
 
@@ -89,6 +94,34 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return Paths.get(getFullTemplateFile(name));
     }
 
+    /**
+     * Returns a key describing the template search path of this instance. When every loader is backed by the classpath,
+     * the key is shared with other instances using the same loaders, so compiled templates can be reused across runs.
+     * Otherwise, the key is unique to this instance.
+     *
+     * @return The cache scope
+     */
+    @Override
+    public String getTemplateCacheScope() {
+        StringBuilder scope = new StringBuilder();
+        for (TemplatePathLocator loader : this.templateLoaders) {
+            String loaderScope = loader.getTemplateCacheScope();
+            if (loaderScope == null) {
+                return instanceScope;
+            }
+            scope.append(loaderScope).append(';');
+        }
+        return scope.toString();
+    }
+
+    /**
+     * Discards the templates compiled for this instance alone, once it has finished rendering. Templates compiled for a
+     * search path shared with other instances are kept for them.
+     */
+    public void evictCompiledTemplates() {
+        engineAdapter.evictCompiledTemplates(instanceScope);
+    }
+
     /**
      * Gets a normalized classpath resource location according to OS-specific file separator
      *
@@ -216,25 +249,11 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         File outputFile = Paths.get(filename).toFile();
 
         if (this.options.isMinimalUpdate()) {
-            String tempFilename = filename + ".tmp";
-            File tempFile = null;
-            try {
-                tempFile = writeToFileRaw(tempFilename, contents);
-                if (!filesEqual(tempFile, outputFile)) {
-                    LOGGER.info("writing file {}", filename);
-                    Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile = null;
-                } else {
-                    LOGGER.info("skipping unchanged file {}", filename);
-                }
-            } finally {
-                if (tempFile != null && tempFile.exists()) {
-                    try {
-                        Files.delete(tempFile.toPath());
-                    } catch (Exception ex) {
-                        LOGGER.error("Error removing temporary file {}", tempFile, ex);
-                    }
-                }
+            if (contentEquals(outputFile.toPath(), contents)) {
+                LOGGER.info("skipping unchanged file {}", filename);
+            } else {
+                LOGGER.info("writing file {}", filename);
+                outputFile = writeToFileRaw(filename, contents);
             }
         } else {
             LOGGER.info("writing file {}", filename);
@@ -261,7 +280,32 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return output;
     }
 
-    private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+    /**
+     * Compares the contents of a file with the rendered bytes. A file of a different size is not read at all, otherwise
+     * it is read once, in chunks, up to the first difference.
+     */
+    static boolean contentEquals(Path file, byte[] contents) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (!attributes.isRegularFile() || attributes.size() != contents.length) {
+            return false;
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int offset = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (offset + read > contents.length || !Arrays.equals(buffer, 0, read, contents, offset, offset + read)) {
+                    return false;
+                }
+                offset += read;
+            }
+            return offset == contents.length;
+        }
     }
 }
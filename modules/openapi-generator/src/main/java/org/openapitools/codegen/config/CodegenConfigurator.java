@@ -40,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.*;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -51,9 +52,12 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
  * <p>
  * This helper also enables the deserialization of {@link GeneratorSettings} via application-specific Jackson JSON usage
  * (see {@link DynamicSettings}.
+ * <p>
+ * Configurators are serializable, e.g. to generate in another process than the one configuring generation. The
+ * {@link #setParsedSpecCache(ParsedSpecCache) parsed spec cache} is not serialized.
  */
 @SuppressWarnings("UnusedReturnValue")
-public class CodegenConfigurator {
+public class CodegenConfigurator implements Serializable {
 
     public static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigurator.class);
 
@@ -83,6 +87,8 @@ public class CodegenConfigurator {
     private Map<String, String> serverVariables = new HashMap<>();
     private String auth;
 
+    private transient ParsedSpecCache parsedSpecCache;
+
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
 
     public CodegenConfigurator() {
@@ -352,11 +358,32 @@ public class CodegenConfigurator {
         return this;
     }
 
+    /**
+     * Sets the cache the input spec is parsed through, to share the parsed spec with other configurators.
+     *
+     * @param parsedSpecCache The cache of parsed specs, or null to parse the input spec on every call of {@link #toContext()}
+     * @return this configurator
+     */
+    public CodegenConfigurator setParsedSpecCache(ParsedSpecCache parsedSpecCache) {
+        this.parsedSpecCache = parsedSpecCache;
+        return this;
+    }
+
     public CodegenConfigurator setEnableMinimalUpdate(boolean enableMinimalUpdate) {
         workflowSettingsBuilder.withEnableMinimalUpdate(enableMinimalUpdate);
         return this;
     }
 
+    public CodegenConfigurator setRenderThreads(int renderThreads) {
+        workflowSettingsBuilder.withRenderThreads(renderThreads);
+        return this;
+    }
+
+    public CodegenConfigurator setIncremental(boolean incremental) {
+        workflowSettingsBuilder.withIncremental(incremental);
+        return this;
+    }
+
     public CodegenConfigurator setEnablePostProcessFile(boolean enablePostProcessFile) {
         workflowSettingsBuilder.withEnablePostProcessFile(enablePostProcessFile);
         return this;
@@ -684,7 +711,9 @@ public class CodegenConfigurator {
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
         options.setResolveResponses(true);
-        SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        SwaggerParseResult result = parsedSpecCache == null
+                ? new OpenAPIParser().readLocation(inputSpec, authorizationValues, options)
+                : parsedSpecCache.get(inputSpec, auth, options, () -> new OpenAPIParser().readLocation(inputSpec, authorizationValues, options));
 
         // TODO: Move custom validations to a separate type as part of a "Workflow"
         Set<String> validationMessages = new HashSet<>(null != result.getMessages() ? result.getMessages() : new ArrayList<>());
@@ -763,6 +792,8 @@ public class CodegenConfigurator {
         config.setSkipOperationExample(workflowSettings.isSkipOperationExample());
         config.setEnablePostProcessFile(workflowSettings.isEnablePostProcessFile());
         config.setEnableMinimalUpdate(workflowSettings.isEnableMinimalUpdate());
+        config.setRenderThreads(workflowSettings.getRenderThreads());
+        config.setIncremental(workflowSettings.isIncremental());
         config.setStrictSpecBehavior(workflowSettings.isStrictSpecBehavior());
 
         TemplatingEngineAdapter templatingEngine = TemplatingEngineLoader.byIdentifier(workflowSettings.getTemplatingEngineName());
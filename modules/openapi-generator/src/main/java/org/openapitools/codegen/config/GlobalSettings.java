@@ -29,7 +29,8 @@ import java.util.Properties;
  * with Code, that uses System.setProperties (e.g. maven-surefire-plugin).
  * <p>
  * This provides a set of properties specific to the executing thread, such that the generator may not modify system properties
- * consumed by other threads.
+ * consumed by other threads. A generator run binds its own copy of these properties to every thread it executes on
+ * (see {@link #bind(Properties)}), so concurrent runs don't depend on the threads they are scheduled on.
  *
  * @author gndrm
  * @since 2018
@@ -41,39 +42,115 @@ public class GlobalSettings {
     private static ThreadLocal<Properties> properties = new InheritableThreadLocal<>() {
         @Override
         protected Properties initialValue() {
-            // avoid using System.getProperties().clone() which is broken in Gradle - see https://github.com/gradle/gradle/issues/17344
-            Properties copy = new Properties();
-            System.getProperties()
-                .forEach((k,v) -> copy.put(String.valueOf(k), String.valueOf(v)));
-            return copy;
+            return newSettings();
+        }
+
+        @Override
+        protected Properties childValue(Properties parentValue) {
+            // threads don't share their settings with the thread starting them, e.g. the threads of a pool
+            return copyOf(parentValue);
         }
     };
 
+    // the settings of the generator run executing on the current thread, if any, see bind(Properties)
+    private static final ThreadLocal<Properties> runProperties = new ThreadLocal<>();
+
     public static String getProperty(String key, String defaultValue) {
-        return properties.get().getProperty(key, defaultValue);
+        return current().getProperty(key, defaultValue);
     }
 
     public static String getProperty(String key) {
-        return properties.get().getProperty(key);
+        return current().getProperty(key);
     }
 
     public static void setProperty(String key, String value) {
-        properties.get().setProperty(key, value);
+        current().setProperty(key, value);
     }
 
     public static void clearProperty(String key) {
-        properties.get().remove(key);
+        current().remove(key);
     }
 
+    /**
+     * Resets the settings of the current thread to the system properties. Settings bound by {@link #bind(Properties)}
+     * are left as they are.
+     */
     public static void reset() {
         properties.remove();
     }
 
+    /**
+     * Creates a new set of settings, initialized from the system properties.
+     *
+     * @return the settings
+     */
+    public static Properties newSettings() {
+        // avoid using System.getProperties().clone() which is broken in Gradle - see https://github.com/gradle/gradle/issues/17344
+        Properties copy = new Properties();
+        System.getProperties()
+            .forEach((k,v) -> copy.put(String.valueOf(k), String.valueOf(v)));
+        return copy;
+    }
+
+    /**
+     * Copies the settings visible to the current thread, e.g. to run a generator with the settings of the caller on
+     * other threads.
+     *
+     * @return a copy of the settings
+     */
+    public static Properties copy() {
+        return copyOf(current());
+    }
+
+    /**
+     * Makes the current thread use the given settings, typically those of a single generator run, instead of its own
+     * until the returned scope is closed. Settings may be bound to several threads at once.
+     *
+     * @param settings the settings, e.g. from {@link #newSettings()} or {@link #copy()}
+     * @return the scope, restoring the previously bound settings when closed
+     */
+    public static Scope bind(Properties settings) {
+        Properties previous = runProperties.get();
+        runProperties.set(settings);
+        return new Scope(previous);
+    }
+
     public static void log() {
         if(LOGGER.isDebugEnabled()) {
             StringWriter stringWriter = new StringWriter();
-            properties.get().list(new PrintWriter(stringWriter));
+            current().list(new PrintWriter(stringWriter));
             LOGGER.debug("GlobalSettings: {}", stringWriter);
         }
     }
+
+    private static Properties current() {
+        Properties bound = runProperties.get();
+        return bound == null ? properties.get() : bound;
+    }
+
+    private static Properties copyOf(Properties settings) {
+        Properties copy = new Properties();
+        copy.putAll(settings);
+        return copy;
+    }
+
+    /**
+     * The binding of settings to a thread, see {@link #bind(Properties)}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Properties previous;
+
+        private Scope(Properties previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                runProperties.remove();
+            } else {
+                runProperties.set(previous);
+            }
+        }
+    }
 }
@@ -1,10 +1,14 @@
 package org.openapitools.codegen.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.collect.ImmutableMap;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import org.apache.commons.lang3.ObjectUtils;
@@ -58,31 +62,29 @@ public class MergedSpecBuilder {
 
         String openapiVersion = null;
         boolean isJson = false;
-        ParseOptions options = new ParseOptions();
-        options.setResolve(true);
         List<SpecWithPaths> allPaths = new ArrayList<>();
         List<Server> allServers = new ArrayList<>();
 
-        for (String specRelatedPath : specRelatedPaths) {
-            String specPath = inputSpecRootDirectory + File.separator + specRelatedPath;
-            try {
-                LOGGER.info("Reading spec: {}", specPath);
+        // the specs are scanned in parallel, and merged in the order of the directory listing
+        List<OpenAPI> results = specRelatedPaths.parallelStream()
+                .map(this::readSpec)
+                .collect(Collectors.toList());
 
-                OpenAPI result = new OpenAPIParser()
-                        .readLocation(specPath, AuthParser.parse(auth), options)
-                        .getOpenAPI();
+        for (int i = 0; i < specRelatedPaths.size(); i++) {
+            String specRelatedPath = specRelatedPaths.get(i);
+            OpenAPI result = results.get(i);
+            if (result == null) {
+                continue;
+            }
 
-                if (openapiVersion == null) {
-                    openapiVersion = result.getOpenapi();
-                    if (specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json")) {
-                        isJson = true;
-                    }
+            if (openapiVersion == null) {
+                openapiVersion = result.getOpenapi();
+                if (specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json")) {
+                    isJson = true;
                 }
-                allServers.addAll(ObjectUtils.defaultIfNull(result.getServers(), Collections.emptyList()));
-                allPaths.add(new SpecWithPaths(specRelatedPath, result.getPaths().keySet()));
-            } catch (Exception e) {
-                LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
             }
+            allServers.addAll(ObjectUtils.defaultIfNull(result.getServers(), Collections.emptyList()));
+            allPaths.add(new SpecWithPaths(specRelatedPath, result.getPaths().keySet()));
         }
 
         Map<String, Object> mergedSpec = generatedMergedSpec(openapiVersion, allPaths, allServers);
@@ -99,6 +101,89 @@ public class MergedSpecBuilder {
         return mergedFilePath.toString();
     }
 
+    private OpenAPI readSpec(String specRelatedPath) {
+        String specPath = inputSpecRootDirectory + File.separator + specRelatedPath;
+        try {
+            LOGGER.info("Reading spec: {}", specPath);
+
+            OpenAPI result = scanSpec(Paths.get(specPath));
+            if (result == null) {
+                // not an OpenAPI 3.x document, e.g. Swagger 2.0, which the parser converts
+                ParseOptions options = new ParseOptions();
+                options.setResolve(true);
+                result = new OpenAPIParser()
+                        .readLocation(specPath, AuthParser.parse(auth), options)
+                        .getOpenAPI();
+            }
+            if (result.getPaths() == null) {
+                throw new IllegalArgumentException("No paths in " + specPath);
+            }
+            return result;
+        } catch (Exception e) {
+            LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the version, the servers and the paths of an OpenAPI 3.x document with the streaming parser of Jackson,
+     * skipping everything else. References are not resolved: only the keys of the paths are merged, the generator
+     * resolves the path items from the merged spec. As the OpenAPI parser does, a document without servers gets the
+     * server {@code /}.
+     *
+     * @param specPath the path of the document, JSON or YAML
+     * @return the version, servers and paths of the document (the path items are empty), or null if the document is
+     * not an OpenAPI 3.x document
+     */
+    private static OpenAPI scanSpec(Path specPath) throws IOException {
+        JsonFactory factory = specPath.toString().toLowerCase(Locale.ROOT).endsWith(".json") ? new JsonFactory() : new YAMLFactory();
+        OpenAPI openAPI = new OpenAPI();
+        try (JsonParser parser = factory.createParser(specPath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("openapi".equals(field) && value.isScalarValue()) {
+                    openAPI.setOpenapi(parser.getText());
+                } else if ("servers".equals(field) && value == JsonToken.START_ARRAY) {
+                    for (JsonToken server = parser.nextToken(); server != JsonToken.END_ARRAY; server = parser.nextToken()) {
+                        if (server != JsonToken.START_OBJECT) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String serverField = parser.getCurrentName();
+                            if (parser.nextToken().isScalarValue() && "url".equals(serverField)) {
+                                openAPI.addServersItem(new Server().url(parser.getText()));
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    }
+                } else if ("paths".equals(field) && value == JsonToken.START_OBJECT) {
+                    io.swagger.v3.oas.models.Paths paths = new io.swagger.v3.oas.models.Paths();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        paths.addPathItem(parser.getCurrentName(), new PathItem());
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                    openAPI.setPaths(paths);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (openAPI.getOpenapi() == null || !openAPI.getOpenapi().startsWith("3.")) {
+            return null;
+        }
+        if (openAPI.getServers() == null) {
+            openAPI.addServersItem(new Server().url("/"));
+        }
+        return openAPI;
+    }
+
     private Map<String, Object> generatedMergedSpec(String openapiVersion, List<SpecWithPaths> allPaths, List<Server> allServers) {
         Map<String, Object> spec = generateHeader(openapiVersion, mergedFileInfoName, mergedFileInfoDescription, mergedFileInfoVersion, allServers);
         Map<String, Object> paths = new HashMap<>();
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.utils.OpenAPICopier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A cache of parsed specifications, shared by several {@link CodegenConfigurator} (e.g. the configurations of a batch)
+ * so that a specification used by several of them is read and resolved once.
+ * <p>
+ * Entries are keyed by the location of the specification, the hash of its content (for local files), the options it is
+ * parsed with and the authorization used to fetch it. Generation modifies the specification (e.g. the normalizer and the
+ * inline model resolver), so the parsed specifications are never handed out: each configuration gets its own
+ * {@link OpenAPICopier deep copy}. The parsed specifications are softly referenced, they are released when memory runs
+ * low.
+ */
+public class ParsedSpecCache {
+    private final Cache<Key, Entry> cache;
+
+    /**
+     * @param maximumSize The maximum number of parsed specifications kept
+     */
+    public ParsedSpecCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .softValues()
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Gets a copy of the parsed specification, parsing it on a cache miss.
+     *
+     * @param location The location of the specification (a file or a URL)
+     * @param auth     The authorization used to fetch the specification and its references, or null
+     * @param options  The options the specification is parsed with
+     * @param parse    Reads and parses the specification
+     * @return The result of parsing the specification, with a copy of the specification which the caller may modify
+     */
+    public SwaggerParseResult get(String location, String auth, ParseOptions options, Supplier<SwaggerParseResult> parse) {
+        Entry entry = cache.get(new Key(location, auth, options), key -> new Entry(parse.get()));
+
+        SwaggerParseResult result = new SwaggerParseResult();
+        result.setMessages(new ArrayList<>(entry.messages));
+        result.setOpenAPI(entry.openAPI == null ? null : OpenAPICopier.copy(entry.openAPI));
+        return result;
+    }
+
+    /**
+     * @return A snapshot of the hit/miss/eviction counters of this cache
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return The approximate number of parsed specifications in this cache
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static final class Entry {
+        private final OpenAPI openAPI;
+        private final List<String> messages;
+
+        private Entry(SwaggerParseResult result) {
+            this.openAPI = result.getOpenAPI();
+            this.messages = result.getMessages() == null ? Collections.emptyList() : new ArrayList<>(result.getMessages());
+        }
+    }
+
+    private static final class Key {
+        private final String location;
+        private final String contentHash;
+        private final String auth;
+        private final List<Boolean> options;
+
+        private Key(String location, String auth, ParseOptions options) {
+            Path file = toFile(location);
+            this.location = file == null ? location : file.toString();
+            this.contentHash = file == null ? null : hash(file);
+            this.auth = auth;
+            this.options = List.of(options.isResolve(), options.isResolveFully(), options.isFlatten(),
+                    options.isResolveResponses(), options.isResolveCombinators());
+        }
+
+        private static Path toFile(String location) {
+            try {
+                Path file = Paths.get(location).toAbsolutePath().normalize();
+                return Files.isRegularFile(file) ? file : null;
+            } catch (InvalidPathException e) {
+                // e.g. a URL
+                return null;
+            }
+        }
+
+        private static String hash(Path file) {
+            try {
+                return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+            } catch (IOException e) {
+                // not readable, the parser reports it
+                return null;
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(location, key.location) &&
+                    Objects.equals(contentHash, key.contentHash) &&
+                    Objects.equals(auth, key.auth) &&
+                    Objects.equals(options, key.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(location, contentHash, auth, options);
+        }
+    }
+}
@@ -50,13 +50,25 @@ public class ExampleGenerator {
     protected Map<String, Schema> examples;
     private OpenAPI openAPI;
     private Random random;
+    private final XmlExampleGenerator xmlExampleGenerator;
+    // rendered JSON examples of the models by media type, with the example of the model they were rendered from
+    private final Map<String, Map<String, Map.Entry<Object, String>>> renderedExamples = new HashMap<>();
 
     public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI) {
         this.examples = examples;
         this.openAPI = openAPI;
+        this.xmlExampleGenerator = new XmlExampleGenerator(examples);
+        resetRandom();
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+    }
+
+    /**
+     * Restarts the sequence of the "random" numbers used in the examples, so that the examples generated next
+     * do not depend on the examples generated before (e.g. for the operations processed before).
+     */
+    public void resetRandom() {
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
-        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
     }
 
     public List<Map<String, String>> generateFromResponseSchema(String statusCode, Schema responseSchema, Set<String> producesInfo) {
@@ -119,7 +131,7 @@ public class ExampleGenerator {
                         output.add(kv);
                     }
                 } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String example = xmlExampleGenerator.toXml(property);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_XML);
@@ -158,7 +170,17 @@ public class ExampleGenerator {
                 if (modelName != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        // once resolved, the example is kept in the schema of the model, it is rendered only once
+                        Map.Entry<Object, String> rendered = renderedExamples(mediaType).get(modelName);
+                        String example;
+                        if (rendered != null && rendered.getKey() == schema.getExample()) {
+                            example = rendered.getValue();
+                        } else {
+                            example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                            if (example != null && schema.getExample() != null) {
+                                renderedExamples(mediaType).put(modelName, new AbstractMap.SimpleImmutableEntry<>(schema.getExample(), example));
+                            }
+                        }
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -168,7 +190,7 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Schema schema = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.emptySet());
+                    String example = xmlExampleGenerator.toXml(schema, 0, Collections.emptySet());
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_XML);
@@ -196,6 +218,10 @@ public class ExampleGenerator {
         return output;
     }
 
+    private Map<String, Map.Entry<Object, String>> renderedExamples(String mediaType) {
+        return renderedExamples.computeIfAbsent(mediaType, k -> new HashMap<>());
+    }
+
     private List<Map<String, String>> generate(Object example, List<String> mediaTypes) {
         List<Map<String, String>> output = new ArrayList<>();
         if (examples != null) {
@@ -18,11 +18,13 @@
 package org.openapitools.codegen.ignore;
 
 import org.openapitools.codegen.ignore.rules.DirectoryRule;
+import org.openapitools.codegen.ignore.rules.IgnoreMatcher;
 import org.openapitools.codegen.ignore.rules.Rule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -40,9 +42,11 @@ public class CodegenIgnoreProcessor {
     private final Logger LOGGER = LoggerFactory.getLogger(CodegenIgnoreProcessor.class);
 
     private File ignoreFile = null;
+    private URI baseDirectory = null;
 
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
+    private IgnoreMatcher matcher = null;
 
     /**
      * Loads the default ignore file (.openapi-generator-ignore) from the specified path.
@@ -84,6 +88,7 @@ public class CodegenIgnoreProcessor {
             try {
                 loadCodegenRules(targetIgnoreFile);
                 this.ignoreFile = targetIgnoreFile;
+                this.baseDirectory = targetIgnoreFile.getAbsoluteFile().getParentFile().toURI();
             } catch (IOException e) {
                 LOGGER.error(String.format(Locale.ROOT, "Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
             }
@@ -133,6 +138,9 @@ public class CodegenIgnoreProcessor {
                 }
             }
         }
+
+        // evaluates every path against all rules at once, or null to evaluate the rules one by one
+        matcher = IgnoreMatcher.compile(exclusionRules, inclusionRules);
     }
 
     /**
@@ -145,13 +153,18 @@ public class CodegenIgnoreProcessor {
     public boolean allowsFile(final File targetFile) {
         if (this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getAbsoluteFile().getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        boolean directoryExcluded = false;
-        boolean exclude = false;
         if (exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
 
+        File file = new File(this.baseDirectory.relativize(targetFile.toURI()).getPath());
+        if (matcher != null) {
+            return matcher.allows(file.getPath());
+        }
+
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+
         // NOTE: We *must* process all exclusion rules
         for (int i = 0; i < exclusionRules.size(); i++) {
             Rule current = exclusionRules.get(i);
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore.rules;
+
+import java.nio.file.FileSystems;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The exclusion and inclusion rules of an ignore file, compiled so a path is evaluated against all rules at once
+ * rather than rule by rule.
+ * <p>
+ * Rules without wildcards are looked up directly: file rules in a set of paths, directory rules in a trie of path
+ * segments. The remaining {@link FileRule} and {@link DirectoryRule} globs are combined into a single regular
+ * expression per kind of rule, translated the same way the default file system translates {@code glob:} patterns on
+ * platforms using {@code /} as separator. {@link RootedFileRule}s are evaluated as they are.
+ * <p>
+ * As with rule by rule evaluation, an inclusion rule can't re-include a path excluded by a directory rule, unless the
+ * inclusion rule is a directory rule itself.
+ */
+public final class IgnoreMatcher {
+    private static final String GLOB_META_CHARS = "\\*?[{";
+    private static final String REGEX_META_CHARS = ".^$+{[]|()";
+
+    private final RuleSet excludedDirectories = new RuleSet();
+    private final RuleSet excludedFiles = new RuleSet();
+    private final RuleSet includedDirectories = new RuleSet();
+    private final RuleSet includedFiles = new RuleSet();
+
+    private IgnoreMatcher() {
+    }
+
+    /**
+     * Compiles the rules of an ignore file.
+     *
+     * @param exclusionRules the rules excluding files
+     * @param inclusionRules the negated rules, re-including excluded files
+     * @return the compiled rules, or null if the rules can only be evaluated one by one
+     */
+    public static IgnoreMatcher compile(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        if (!"/".equals(FileSystems.getDefault().getSeparator())) {
+            // globs of other file systems differ (e.g. ignore case), leave those to the rules
+            return null;
+        }
+        IgnoreMatcher matcher = new IgnoreMatcher();
+        try {
+            if (!matcher.excludedDirectories.addAll(exclusionRules, true)
+                    || !matcher.excludedFiles.addAll(exclusionRules, false)
+                    || !matcher.includedDirectories.addAll(inclusionRules, true)
+                    || !matcher.includedFiles.addAll(inclusionRules, false)) {
+                return null;
+            }
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+        matcher.excludedDirectories.compile();
+        matcher.excludedFiles.compile();
+        matcher.includedDirectories.compile();
+        matcher.includedFiles.compile();
+        return matcher;
+    }
+
+    /**
+     * @param relativePath the path to evaluate, relative to the ignore file
+     * @return {@code false} if the path is excluded by the rules, otherwise {@code true}
+     */
+    public boolean allows(String relativePath) {
+        boolean directoryExcluded = excludedDirectories.matches(relativePath);
+        if (!directoryExcluded && !excludedFiles.matches(relativePath)) {
+            return true;
+        }
+        if (includedDirectories.matches(relativePath)) {
+            return true;
+        }
+        return !directoryExcluded && includedFiles.matches(relativePath);
+    }
+
+    /**
+     * Translates a glob into a regular expression, following the {@code glob:} syntax of
+     * {@link java.nio.file.FileSystem#getPathMatcher(String)}.
+     *
+     * @param glob the glob
+     * @return the regular expression, without anchors
+     * @throws PatternSyntaxException if the glob is invalid
+     */
+    static String toRegex(String glob) {
+        boolean inGroup = false;
+        StringBuilder regex = new StringBuilder();
+
+        int i = 0;
+        while (i < glob.length()) {
+            char c = glob.charAt(i++);
+            switch (c) {
+                case '\\':
+                    if (i == glob.length()) {
+                        throw new PatternSyntaxException("No character to escape", glob, i - 1);
+                    }
+                    char next = glob.charAt(i);
+                    if (isGlobMeta(next) || isRegexMeta(next)) {
+                        regex.append('\\');
+                    }
+                    regex.append(next);
+                    i++;
+                    break;
+                case '[':
+                    // don't match the name separator in a class
+                    regex.append("[[^/]&&[");
+                    if (next(glob, i) == '^') {
+                        regex.append("\\^");
+                        i++;
+                    } else {
+                        if (next(glob, i) == '!') {
+                            regex.append('^');
+                            i++;
+                        }
+                        if (next(glob, i) == '-') {
+                            regex.append('-');
+                            i++;
+                        }
+                    }
+                    boolean hasRangeStart = false;
+                    char last = 0;
+                    while (i < glob.length()) {
+                        c = glob.charAt(i++);
+                        if (c == ']') {
+                            break;
+                        }
+                        if (c == '/') {
+                            throw new PatternSyntaxException("Explicit 'name separator' in class", glob, i - 1);
+                        }
+                        if (c == '\\' || c == '[' || c == '&' && next(glob, i) == '&') {
+                            regex.append('\\');
+                        }
+                        regex.append(c);
+
+                        if (c == '-') {
+                            if (!hasRangeStart) {
+                                throw new PatternSyntaxException("Invalid range", glob, i - 1);
+                            }
+                            if ((c = next(glob, i++)) == 0 || c == ']') {
+                                break;
+                            }
+                            if (c < last) {
+                                throw new PatternSyntaxException("Invalid range", glob, i - 3);
+                            }
+                            regex.append(c);
+                            hasRangeStart = false;
+                        } else {
+                            hasRangeStart = true;
+                            last = c;
+                        }
+                    }
+                    if (c != ']') {
+                        throw new PatternSyntaxException("Missing ']", glob, i - 1);
+                    }
+                    regex.append("]]");
+                    break;
+                case '{':
+                    if (inGroup) {
+                        throw new PatternSyntaxException("Cannot nest groups", glob, i - 1);
+                    }
+                    regex.append("(?:(?:");
+                    inGroup = true;
+                    break;
+                case '}':
+                    if (inGroup) {
+                        regex.append("))");
+                        inGroup = false;
+                    } else {
+                        regex.append('}');
+                    }
+                    break;
+                case ',':
+                    regex.append(inGroup ? ")|(?:" : ",");
+                    break;
+                case '*':
+                    if (next(glob, i) == '*') {
+                        // crosses directory boundaries
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                    break;
+                case '?':
+                    regex.append("[^/]");
+                    break;
+                default:
+                    if (isRegexMeta(c)) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+            }
+        }
+
+        if (inGroup) {
+            throw new PatternSyntaxException("Missing '}", glob, i - 1);
+        }
+        return regex.toString();
+    }
+
+    private static boolean isLiteral(String glob) {
+        for (int i = 0; i < glob.length(); i++) {
+            if (isGlobMeta(glob.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isGlobMeta(char c) {
+        return GLOB_META_CHARS.indexOf(c) != -1;
+    }
+
+    private static boolean isRegexMeta(char c) {
+        return REGEX_META_CHARS.indexOf(c) != -1;
+    }
+
+    private static char next(String glob, int i) {
+        return i < glob.length() ? glob.charAt(i) : 0;
+    }
+
+    /**
+     * The rules of one kind (directory or file rules) of either the exclusion or the inclusion rules.
+     */
+    private static final class RuleSet {
+        private final Set<String> literals = new HashSet<>();
+        private final Segment directories = new Segment();
+        private final List<String> globs = new ArrayList<>();
+        private final List<Rule> rules = new ArrayList<>();
+        private Pattern combined;
+
+        boolean addAll(List<Rule> candidates, boolean directoryRules) {
+            for (Rule rule : candidates) {
+                if (rule instanceof InvalidRule) {
+                    continue;
+                }
+                if (rule instanceof DirectoryRule) {
+                    if (directoryRules) {
+                        addDirectory(rule.getPattern());
+                    }
+                } else if (rule.getClass() == FileRule.class) {
+                    if (!directoryRules) {
+                        addFile(rule.getPattern());
+                    }
+                } else if (rule.getClass() == RootedFileRule.class) {
+                    if (!directoryRules) {
+                        rules.add(rule);
+                    }
+                } else {
+                    // e.g. rules changing the evaluation order, which only rule by rule evaluation supports
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void addDirectory(String pattern) {
+            String directory = pattern.endsWith("/") ? pattern : pattern + "/";
+            String name = directory.substring(0, directory.length() - 1);
+            if (isLiteral(name)) {
+                directories.add(name);
+            } else {
+                // matches the directory itself (directory/) as well as its contents (directory/**)
+                globs.add(toRegex(directory + "**"));
+            }
+        }
+
+        private void addFile(String pattern) {
+            if (isLiteral(pattern)) {
+                literals.add(pattern);
+            } else {
+                globs.add(toRegex(pattern));
+            }
+        }
+
+        void compile() {
+            if (!globs.isEmpty()) {
+                combined = Pattern.compile("(?:" + String.join(")|(?:", globs) + ")");
+            }
+        }
+
+        boolean matches(String path) {
+            if (literals.contains(path) || directories.containsParentOf(path)) {
+                return true;
+            }
+            if (combined != null && combined.matcher(path).matches()) {
+                return true;
+            }
+            for (Rule rule : rules) {
+                if (Boolean.TRUE.equals(rule.matches(path))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A trie of the path segments of literal directory rules.
+     */
+    private static final class Segment {
+        private final Map<String, Segment> children = new HashMap<>();
+        private boolean directory;
+
+        void add(String path) {
+            Segment current = this;
+            for (String name : path.split("/", -1)) {
+                current = current.children.computeIfAbsent(name, n -> new Segment());
+            }
+            current.directory = true;
+        }
+
+        boolean containsParentOf(String path) {
+            Segment current = this;
+            int start = 0;
+            while (!current.children.isEmpty()) {
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    // the last segment is the path itself, which has no separator for a directory rule to match
+                    return false;
+                }
+                current = current.children.get(path.substring(start, end));
+                if (current == null) {
+                    return false;
+                }
+                start = end + 1;
+                if (current.directory && !hasLineTerminator(path, start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // like the glob directory/**, whose regular expression doesn't match line terminators
+        private static boolean hasLineTerminator(String path, int start) {
+            for (int i = start; i < path.length(); i++) {
+                char c = path.charAt(i);
+                if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
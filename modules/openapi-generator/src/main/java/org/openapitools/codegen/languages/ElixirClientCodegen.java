@@ -657,7 +657,7 @@ public class ElixirClientCodegen extends DefaultCodegen {
             this.isBinary = o.isBinary;
             this.isFile = o.isFile;
             this.schema = o.schema;
-            this.jsonSchema = o.jsonSchema;
+            this.setJsonSchemaSupplier(o::getJsonSchema);
             this.vendorExtensions = o.vendorExtensions;
 
             this.isDefinedDefault = (this.code.equals("0") || this.code.equals("default"));
@@ -881,7 +881,7 @@ public class ElixirClientCodegen extends DefaultCodegen {
             this.title = cm.title;
             this.description = cm.description;
             this.classVarName = cm.classVarName;
-            this.modelJson = cm.modelJson;
+            this.setModelJsonSupplier(cm::getModelJson);
             this.dataType = cm.dataType;
             this.xmlPrefix = cm.xmlPrefix;
             this.xmlNamespace = cm.xmlNamespace;
@@ -58,9 +58,13 @@ public class GoClientCodegen extends AbstractGoCodegen {
     public static final String WITH_GO_MOD = "withGoMod";
     public static final String USE_DEFAULT_VALUES_FOR_REQUIRED_VARS = "useDefaultValuesForRequiredVars";
     public static final String IMPORT_VALIDATOR = "importValidator";
+    public static final String USE_SINGLE_PASS_UNMARSHAL = "useSinglePassUnmarshal";
+    public static final String USE_STREAMING_FILES = "useStreamingFiles";
     @Setter protected String goImportAlias = "openapiclient";
     protected boolean isGoSubmodule = false;
     @Setter protected boolean useOneOfDiscriminatorLookup = false; // use oneOf discriminator's mapping for model lookup
+    @Setter protected boolean useSinglePassUnmarshal = false;
+    @Setter protected boolean useStreamingFiles = false;
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
     private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
@@ -130,6 +134,8 @@ public class GoClientCodegen extends AbstractGoCodegen {
         cliOptions.add(CliOption.newBoolean(WITH_AWSV4_SIGNATURE, "whether to include AWS v4 signature support"));
         cliOptions.add(CliOption.newBoolean(GENERATE_INTERFACES, "Generate interfaces for api classes"));
         cliOptions.add(CliOption.newBoolean(USE_DEFAULT_VALUES_FOR_REQUIRED_VARS, "Use default values for required variables when available"));
+        cliOptions.add(CliOption.newBoolean(USE_SINGLE_PASS_UNMARSHAL, "Check required properties while decoding a model instead of decoding its JSON into a generic map first, and generate benchmarks for the generated UnmarshalJSON methods"));
+        cliOptions.add(CliOption.newBoolean(USE_STREAMING_FILES, "Copy downloaded files from the response to a temporary file or to the writer given to DownloadTo, and send uploaded files and io.Reader request bodies while reading them, instead of holding them in memory. Request bodies are still buffered when they are signed (withAWSV4Signature or HTTP signatures)"));
 
         // option to change the order of form/body parameter
         cliOptions.add(CliOption.newBoolean(
@@ -255,6 +261,14 @@ public class GoClientCodegen extends AbstractGoCodegen {
             additionalProperties.put(USE_DEFAULT_VALUES_FOR_REQUIRED_VARS, useDefaultValuesForRequiredVars);
         }
 
+        if (additionalProperties.containsKey(USE_SINGLE_PASS_UNMARSHAL)) {
+            setUseSinglePassUnmarshal(convertPropertyToBooleanAndWriteBack(USE_SINGLE_PASS_UNMARSHAL));
+        }
+
+        if (additionalProperties.containsKey(USE_STREAMING_FILES)) {
+            setUseStreamingFiles(convertPropertyToBooleanAndWriteBack(USE_STREAMING_FILES));
+        }
+
         // Generate the 'signing.py' module, but only if the 'HTTP signature' security scheme is specified in the OAS.
         Map<String, SecurityScheme> securitySchemeMap = openAPI != null ?
                 (openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null) : null;
@@ -263,6 +277,11 @@ public class GoClientCodegen extends AbstractGoCodegen {
             supportingFiles.add(new SupportingFile("signing.mustache", "", "signing.go"));
         }
 
+        // signing the request needs the whole body, so only unsigned request bodies are streamed
+        if (useStreamingFiles && !withAWSV4Signature && !ProcessUtils.hasHttpSignatureMethods(authMethods)) {
+            additionalProperties.put("streamRequestBodies", true);
+        }
+
         if (additionalProperties.containsKey("goImportAlias")) {
             setGoImportAlias(additionalProperties.get("goImportAlias").toString());
         } else {
@@ -317,6 +336,9 @@ public class GoClientCodegen extends AbstractGoCodegen {
         }
         supportingFiles.add(new SupportingFile(".travis.yml", "", ".travis.yml"));
         supportingFiles.add(new SupportingFile("utils.mustache", "", "utils.go"));
+        if (useSinglePassUnmarshal) {
+            supportingFiles.add(new SupportingFile("model_benchmark_test.mustache", "test", "model_benchmark_test.go"));
+        }
     }
 
     public boolean getUseOneOfDiscriminatorLookup() {
@@ -539,6 +561,13 @@ public class GoClientCodegen extends AbstractGoCodegen {
             }
 
             if (generateUnmarshalJSON && model.hasRequired) {
+                // the models with a parent keep decoding into maps as the UnmarshalJSON method
+                // of the embedded parent would be promoted to the struct capturing the required properties
+                if (useSinglePassUnmarshal && model.parent == null) {
+                    model.vendorExtensions.put("x-go-single-pass-unmarshal", true);
+                    additionalProperties.put("hasSinglePassUnmarshalModels", true);
+                }
+
                 if (!model.isAdditionalPropertiesTrue &&
                         (model.oneOf == null || model.oneOf.isEmpty()) &&
                         (model.anyOf == null || model.anyOf.isEmpty())) {
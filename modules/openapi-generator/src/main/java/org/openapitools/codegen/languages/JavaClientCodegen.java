@@ -107,6 +107,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String SUPPORT_VERTX_FUTURE = "supportVertxFuture";
     public static final String USE_SEALED_ONE_OF_INTERFACES = "useSealedOneOfInterfaces";
     public static final String USE_UNARY_INTERCEPTOR = "useUnaryInterceptor";
+    public static final String USE_STREAMING_DESERIALIZATION = "useStreamingDeserialization";
+    public static final String USE_STREAMING_TYPE_ADAPTERS = "useStreamingTypeAdapters";
 
     // Internal configurations
     public static final String SINGLE_REQUEST_PARAMETER = "singleRequestParameter";
@@ -152,6 +154,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     @Setter protected boolean supportVertxFuture = false;
     @Setter protected boolean useSealedOneOfInterfaces = false;
     @Setter protected boolean useUnaryInterceptor = false;
+    @Setter protected boolean useStreamingDeserialization = false;
+    @Setter protected boolean useStreamingTypeAdapters = false;
 
     protected String authFolder;
     /**
@@ -265,6 +269,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(SUPPORT_VERTX_FUTURE, "Also generate api methods that return a vertx Future instead of taking a callback. Only `vertx` supports this option. Requires vertx 4 or greater.", this.supportVertxFuture));
         cliOptions.add(CliOption.newBoolean(USE_SEALED_ONE_OF_INTERFACES, "Generate the oneOf interfaces as sealed interfaces. Only supported for WebClient and RestClient.", this.useSealedOneOfInterfaces));
         cliOptions.add(CliOption.newBoolean(USE_UNARY_INTERCEPTOR, "If true it will generate ResponseInterceptors using a UnaryOperator. This can be usefull for manipulating the request before it gets passed, for example doing your own decryption", this.useUnaryInterceptor));
+        cliOptions.add(CliOption.newBoolean(USE_STREAMING_DESERIALIZATION, "Deserialize responses while reading them instead of buffering them, return binary responses as byte[], and generate methods streaming the items of array responses. Only `native` supports this option.", this.useStreamingDeserialization));
+        cliOptions.add(CliOption.newBoolean(USE_STREAMING_TYPE_ADAPTERS, "Generate Gson TypeAdapters reading and writing models in a single pass over the JSON stream, validating them along the way, instead of through a JsonElement tree. Models extending or extended by other models still use a JsonElement tree. Only `okhttp-gson` supports this option.", this.useStreamingTypeAdapters));
 
         supportedLibraries.put(JERSEY2, "HTTP client: Jersey client 2.25.1. JSON processing: Jackson 2.17.1");
         supportedLibraries.put(JERSEY3, "HTTP client: Jersey client 3.1.1. JSON processing: Jackson 2.17.1");
@@ -382,6 +388,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         convertPropertyToStringAndWriteBack(CodegenConstants.USE_SINGLE_REQUEST_PARAMETER, this::setUseSingleRequestParameter);
         convertPropertyToBooleanAndWriteBack(USE_SEALED_ONE_OF_INTERFACES, this::setUseSealedOneOfInterfaces);
         convertPropertyToBooleanAndWriteBack(USE_UNARY_INTERCEPTOR, this::setUseUnaryInterceptor);
+        convertPropertyToBooleanAndWriteBack(USE_STREAMING_DESERIALIZATION, this::setUseStreamingDeserialization);
+        convertPropertyToBooleanAndWriteBack(USE_STREAMING_TYPE_ADAPTERS, this::setUseStreamingTypeAdapters);
         writePropertyBack(SINGLE_REQUEST_PARAMETER, getSingleRequestParameter());
         writePropertyBack(STATIC_REQUEST, getStaticRequest());
 
@@ -1197,6 +1205,26 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         return objs;
     }
 
+    @Override
+    public Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs) {
+        objs = super.postProcessAllModels(objs);
+
+        if (useStreamingTypeAdapters) {
+            // the type adapter of a model sets its fields directly, which it cannot do for the fields of a parent (the
+            // children of a model are only known once all models are processed)
+            for (ModelsMap models : objs.values()) {
+                for (ModelMap mo : models.getModels()) {
+                    CodegenModel cm = mo.getModel();
+                    if (cm.parent == null && !cm.hasChildren) {
+                        cm.getVendorExtensions().put("x-streaming-type-adapter", true);
+                    }
+                }
+            }
+        }
+
+        return objs;
+    }
+
     @Override
     protected boolean isConstructorWithAllArgsAllowed(CodegenModel codegenModel) {
         // implementation detail: allVars is not reliable if openapiNormalizer.REFACTOR_ALLOF_WITH_PROPERTIES_ONLY is disabled
@@ -25,6 +25,8 @@ import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.meta.Stability;
 import org.openapitools.codegen.meta.features.*;
+import org.openapitools.codegen.model.ModelMap;
+import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.ProcessUtils;
 import org.slf4j.Logger;
@@ -33,8 +35,10 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.openapitools.codegen.utils.StringUtils.underscore;
 
@@ -49,6 +53,7 @@ public class PythonClientCodegen extends AbstractPythonCodegen implements Codege
     public static final String SET_ENSURE_ASCII_TO_FALSE = "setEnsureAsciiToFalse";
     public static final String POETRY1_FALLBACK = "poetry1";
     public static final String LAZY_IMPORTS = "lazyImports";
+    public static final String USE_TYPE_ADAPTERS = "useTypeAdapters";
 
     @Setter protected String packageUrl;
     protected String apiDocPath = "docs/";
@@ -57,6 +62,7 @@ public class PythonClientCodegen extends AbstractPythonCodegen implements Codege
     @Setter protected String datetimeFormat = "%Y-%m-%dT%H:%M:%S.%f%z";
     @Setter protected String dateFormat = "%Y-%m-%d";
     @Setter protected boolean setEnsureAsciiToFalse = false;
+    @Setter protected boolean useTypeAdapters = false;
 
     private String testFolder;
 
@@ -153,6 +159,7 @@ public class PythonClientCodegen extends AbstractPythonCodegen implements Codege
         cliOptions.add(new CliOption(CodegenConstants.USE_ONEOF_DISCRIMINATOR_LOOKUP, CodegenConstants.USE_ONEOF_DISCRIMINATOR_LOOKUP_DESC).defaultValue("false"));
         cliOptions.add(new CliOption(POETRY1_FALLBACK, "Fallback to formatting pyproject.toml to Poetry 1.x format."));
         cliOptions.add(new CliOption(LAZY_IMPORTS, "Enable lazy imports.").defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(CliOption.newBoolean(USE_TYPE_ADAPTERS, "Validate JSON responses of models without oneOf/anyOf, discriminators, additional properties or default values, and lists and dicts of them, straight from the response text with cached pydantic TypeAdapters instead of json.loads and from_dict. These models forbid extra fields when disallowAdditionalPropertiesIfNotPresent is true."));
 
         supportedLibraries.put("urllib3", "urllib3-based client");
         supportedLibraries.put("asyncio", "asyncio-based client");
@@ -271,6 +278,10 @@ public class PythonClientCodegen extends AbstractPythonCodegen implements Codege
             additionalProperties.put(LAZY_IMPORTS, Boolean.valueOf(additionalProperties.get(LAZY_IMPORTS).toString()));
         }
 
+        if (additionalProperties.containsKey(USE_TYPE_ADAPTERS)) {
+            setUseTypeAdapters(convertPropertyToBooleanAndWriteBack(USE_TYPE_ADAPTERS));
+        }
+
         String modelPath = packagePath() + File.separatorChar + modelPackage.replace('.', File.separatorChar);
         String apiPath = packagePath() + File.separatorChar + apiPackage.replace('.', File.separatorChar);
 
@@ -352,6 +363,61 @@ public class PythonClientCodegen extends AbstractPythonCodegen implements Codege
         return this.useOneOfDiscriminatorLookup;
     }
 
+    @Override
+    public Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs) {
+        final Map<String, ModelsMap> processed = super.postProcessAllModels(objs);
+        if (useTypeAdapters) {
+            markTypeAdapterModels(processed);
+        }
+        return processed;
+    }
+
+    /**
+     * Marks the models which from_dict only validates, so that a TypeAdapter can validate their JSON directly:
+     * enums, and models without oneOf/anyOf, discriminator, additional properties or default values (from_dict
+     * replaces nulls by them) whose properties only refer to such models.
+     */
+    private void markTypeAdapterModels(Map<String, ModelsMap> objs) {
+        Set<String> allModels = new HashSet<>();
+        Map<String, CodegenModel> candidates = new HashMap<>();
+        for (ModelsMap modelsMap : objs.values()) {
+            for (ModelMap modelMap : modelsMap.getModels()) {
+                CodegenModel model = modelMap.getModel();
+                allModels.add(model.classname);
+                if (model.isEnum || isValidatedByFromDict(model)) {
+                    candidates.put(model.classname, model);
+                }
+            }
+        }
+
+        // drop the models referring to other models until only the ones referring to candidates are left
+        boolean changed = true;
+        while (changed) {
+            changed = candidates.values().removeIf(model -> model.allVars.stream()
+                    .anyMatch(property -> refersToModelOutside(property, candidates.keySet(), allModels)));
+        }
+
+        candidates.values().forEach(model -> model.vendorExtensions.put("x-py-validate-json", true));
+        additionalProperties.put("hasTypeAdapterModels", !candidates.isEmpty());
+    }
+
+    private static boolean isValidatedByFromDict(CodegenModel model) {
+        return (model.oneOf == null || model.oneOf.isEmpty())
+                && (model.anyOf == null || model.anyOf.isEmpty())
+                && model.discriminator == null && !model.hasChildren
+                && !model.isAdditionalPropertiesTrue && !model.isArray && !model.isMap
+                && model.allVars.stream().noneMatch(property -> !property.isContainer && property.defaultValue != null);
+    }
+
+    private static boolean refersToModelOutside(CodegenProperty property, Set<String> candidates, Set<String> allModels) {
+        for (CodegenProperty p = property; p != null; p = p.items) {
+            if (p.complexType != null && allModels.contains(p.complexType) && !candidates.contains(p.complexType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String toModelImport(String name) {
         String modelImport;
@@ -724,7 +724,7 @@ public class RustAxumServerCodegen extends AbstractRustCodegen implements Codege
                     // Attributes based on the model name
                     property.defaultValue = String.format(Locale.ROOT, "r#\"%s\"#.to_string()", cm.getSchemaName());
                     property.discriminatorValue = getDiscriminatorValue(cm.getClassname(), discriminator);
-                    property.jsonSchema = String.format(Locale.ROOT, "{ \"default\":\"%s\"; \"type\":\"string\" }", cm.getSchemaName());
+                    property.setJsonSchema(String.format(Locale.ROOT, "{ \"default\":\"%s\"; \"type\":\"string\" }", cm.getSchemaName()));
 
                     cm.vars.add(property);
                 }
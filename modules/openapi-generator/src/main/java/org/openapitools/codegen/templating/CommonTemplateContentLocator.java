@@ -47,4 +47,14 @@ public class CommonTemplateContentLocator implements TemplatePathLocator {
         }
         return null;
     }
+
+    /**
+     * Describes the common resource location, which is only ever read from the classpath.
+     *
+     * @return The description
+     */
+    @Override
+    public String getTemplateCacheScope() {
+        return "classpath:" + this.resourceLocation;
+    }
 }
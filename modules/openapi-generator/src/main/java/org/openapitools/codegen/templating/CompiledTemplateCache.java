@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.config.GlobalSettings;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of compiled templates, shared by all instances of a templating engine adapter in the JVM.
+ * <p>
+ * Entries are keyed by the {@link TemplatingExecutor#getTemplateCacheScope() template cache scope} of the executor,
+ * the engine configuration and the template name. Compiled templates must not hold on to the executor which compiled
+ * them, as they may outlive it: partials are resolved through {@link #currentExecutor()} instead, which returns the
+ * executor rendering on the current thread.
+ *
+ * @param <T> The compiled template type of the templating engine
+ */
+public class CompiledTemplateCache<T> {
+    /**
+     * Set the maximum number of compiled templates kept per templating engine.
+     */
+    public static final String CACHE_SIZE_PROPERTY = "org.openapitools.codegen.templating.cachesize";
+
+    private final Cache<Key, T> cache;
+    private final ThreadLocal<TemplatingExecutor> currentExecutor = new ThreadLocal<>();
+
+    public CompiledTemplateCache() {
+        int cacheSize = Integer.parseInt(GlobalSettings.getProperty(CACHE_SIZE_PROPERTY, "1000"));
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Gets the compiled template for the given executor, compiling it on a cache miss.
+     * If the executor does not support caching, the template is compiled on every call.
+     *
+     * @param executor     The executor rendering the template
+     * @param engineConfig A value (compared by equals) describing the settings of the templating engine which affect compilation
+     * @param templateFile The name of the template (e.g. model.mustache)
+     * @param compile      Compiles the template, resolving partials via {@link #currentExecutor()}
+     * @return The compiled template
+     */
+    public T get(TemplatingExecutor executor, Object engineConfig, String templateFile, Supplier<T> compile) {
+        String scope = executor.getTemplateCacheScope();
+        if (scope == null) {
+            return compile.get();
+        }
+        return cache.get(new Key(scope, engineConfig, templateFile), key -> compile.get());
+    }
+
+    /**
+     * Runs the given action with the executor made available to partial lookups through {@link #currentExecutor()}.
+     *
+     * @param executor The executor rendering templates on the current thread
+     * @param action   The compilation and/or rendering to run
+     * @param <R>      The result type
+     * @return The result of the action
+     * @throws IOException an error occurred in the template processing
+     */
+    public <R> R withExecutor(TemplatingExecutor executor, IOSupplier<R> action) throws IOException {
+        TemplatingExecutor previous = currentExecutor.get();
+        currentExecutor.set(executor);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                currentExecutor.remove();
+            } else {
+                currentExecutor.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the executor rendering templates on the current thread.
+     *
+     * @return The current executor
+     * @throws IllegalStateException if called outside of {@link #withExecutor(TemplatingExecutor, IOSupplier)}
+     */
+    public TemplatingExecutor currentExecutor() {
+        TemplatingExecutor executor = currentExecutor.get();
+        if (executor == null) {
+            throw new IllegalStateException("Templates may only be resolved while a template is being processed.");
+        }
+        return executor;
+    }
+
+    /**
+     * @return A snapshot of the hit/miss/eviction counters of this cache
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return The approximate number of compiled templates in this cache
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Discards the templates compiled for the given cache scope.
+     *
+     * @param scope The {@link TemplatingExecutor#getTemplateCacheScope() template cache scope}
+     */
+    public void invalidateScope(String scope) {
+        cache.asMap().keySet().removeIf(key -> key.scope.equals(scope));
+    }
+
+    /**
+     * Discards all compiled templates.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @FunctionalInterface
+    public interface IOSupplier<R> {
+        R get() throws IOException;
+    }
+
+    private static final class Key {
+        private final String scope;
+        private final Object engineConfig;
+        private final String templateFile;
+
+        private Key(String scope, Object engineConfig, String templateFile) {
+            this.scope = scope;
+            this.engineConfig = engineConfig;
+            this.templateFile = templateFile;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(scope, key.scope) &&
+                    Objects.equals(engineConfig, key.engineConfig) &&
+                    Objects.equals(templateFile, key.templateFile);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, engineConfig, templateFile);
+        }
+    }
+}
@@ -99,4 +99,19 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
 
         return null;
     }
+
+    /**
+     * Describes the template search path of the generator. Templates are only considered stable when the template
+     * directory is not on the local file system, as files there may be edited between runs in the same JVM.
+     *
+     * @return The description, or null if templates may be read from the local file system
+     */
+    @Override
+    public String getTemplateCacheScope() {
+        CodegenConfig config = this.codegenConfig;
+        if (new File(config.templateDir()).exists()) {
+            return null;
+        }
+        return String.join("|", config.templateDir(), config.embeddedTemplateDir(), StringUtils.defaultString(config.getLibrary()));
+    }
 }
@@ -16,10 +16,12 @@
 
 package org.openapitools.codegen.templating;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Jackson2Helper;
 import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
 import com.github.jknack.handlebars.context.JavaBeanValueResolver;
 import com.github.jknack.handlebars.context.MapValueResolver;
 import com.github.jknack.handlebars.context.MethodValueResolver;
@@ -37,12 +39,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
 
 public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     final Logger LOGGER = LoggerFactory.getLogger(HandlebarsEngineAdapter.class);
+    private static final CompiledTemplateCache<Template> TEMPLATE_CACHE = new CompiledTemplateCache<>();
     private final String[] extensions = {"handlebars", "hbs"};
 
     // We use this as a simple lookup for valid file name extensions. This adapter will inspect .mustache (built-in) and infer the relevant handlebars filename
@@ -63,23 +67,39 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     @Override
     public String compileTemplate(TemplatingExecutor executor,
                                   Map<String, Object> bundle, String templateFile) throws IOException {
+        return TEMPLATE_CACHE.withExecutor(executor, () -> {
+            Template tmpl;
+            try {
+                tmpl = TEMPLATE_CACHE.get(executor, Arrays.asList(infiniteLoops, prettyPrint), templateFile,
+                        () -> compile(templateFile));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            Context context = Context
+                    .newBuilder(bundle)
+                    .resolver(
+                            MapValueResolver.INSTANCE,
+                            JavaBeanValueResolver.INSTANCE,
+                            MethodValueResolver.INSTANCE,
+                            AccessAwareFieldValueResolver.INSTANCE)
+                    .build();
+
+            return tmpl.apply(context);
+        });
+    }
+
+    private Template compile(String templateFile) {
+        // partials are looked up while the template is applied, so resolve them against the executor
+        // currently rendering rather than the one which compiled the template
         TemplateLoader loader = new AbstractTemplateLoader() {
             @Override
             public TemplateSource sourceAt(String location) {
-                return findTemplate(executor, location);
+                return findTemplate(TEMPLATE_CACHE.currentExecutor(), location);
             }
         };
 
-        Context context = Context
-                .newBuilder(bundle)
-                .resolver(
-                        MapValueResolver.INSTANCE,
-                        JavaBeanValueResolver.INSTANCE,
-                        MethodValueResolver.INSTANCE,
-                        AccessAwareFieldValueResolver.INSTANCE)
-                .build();
-
-        Handlebars handlebars = new Handlebars(loader);
+        Handlebars handlebars = new Handlebars(loader).with(new ConcurrentMapTemplateCache());
         handlebars.registerHelperMissing((obj, options) -> {
             LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
             return "";
@@ -90,8 +110,32 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
         handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
         handlebars.setInfiniteLoops(infiniteLoops);
         handlebars.setPrettyPrint(prettyPrint);
-        Template tmpl = handlebars.compile(templateFile);
-        return tmpl.apply(context);
+        try {
+            return handlebars.compile(templateFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the hit/miss counters of the compiled template cache shared by all Handlebars adapters in the JVM.
+     *
+     * @return A snapshot of the cache statistics
+     */
+    public static CacheStats getTemplateCacheStats() {
+        return TEMPLATE_CACHE.stats();
+    }
+
+    /**
+     * Discards all compiled templates shared by Handlebars adapters in the JVM.
+     */
+    public static void clearTemplateCache() {
+        TEMPLATE_CACHE.invalidateAll();
+    }
+
+    @Override
+    public void evictCompiledTemplates(String scope) {
+        TEMPLATE_CACHE.invalidateScope(scope);
     }
 
     @SuppressWarnings("java:S108")
@@ -16,6 +16,10 @@
 
 package org.openapitools.codegen.templating;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.samskivert.mustache.DefaultCollector;
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
 import lombok.Getter;
@@ -30,6 +34,8 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 
@@ -37,6 +43,10 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
 
     private final Logger LOGGER = LoggerFactory.getLogger(TemplatingEngineAdapter.class);
 
+    private static final CompiledTemplateCache<Template> TEMPLATE_CACHE = new CompiledTemplateCache<>();
+    // the settings of compilers, by compiler instance, so that they are not read again for every template
+    private static final Cache<Mustache.Compiler, List<Object>> COMPILER_SETTINGS = Caffeine.newBuilder().weakKeys().build();
+
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
      *
@@ -62,23 +72,74 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
      */
     @Override
     public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) throws IOException {
-        Template tmpl = compiler
-                .withLoader(name -> findTemplate(executor, name))
-                .defaultValue("")
-                .compile(executor.getFullTemplateContents(templateFile));
-        StringWriter out = new StringWriter();
-
-        // the value of bundle[MUSTACHE_PARENT_CONTEXT] is used a parent content in mustache.
-        // See description in https://mustache.github.io/mustache.5.html#Variables
-        // See DefaultCodegen.processOpts() and DefaultCodegen.useCodegenAsMustacheParentContext
-        Object parent = bundle.get(CodegenConstants.MUSTACHE_PARENT_CONTEXT);
-        if (parent == null) {
-            LOGGER.warn("{} not found. super.processOpts needs to be called in processOpts()", CodegenConstants.MUSTACHE_PARENT_CONTEXT);
-            // avoid NPE
-            parent = new Object();
+        return TEMPLATE_CACHE.withExecutor(executor, () -> {
+            Template tmpl = TEMPLATE_CACHE.get(executor, compilerSettings(compiler), templateFile, () -> compiler
+                    .withLoader(name -> findTemplate(TEMPLATE_CACHE.currentExecutor(), name))
+                    .defaultValue("")
+                    .compile(executor.getFullTemplateContents(templateFile)));
+            StringWriter out = new StringWriter();
+
+            // the value of bundle[MUSTACHE_PARENT_CONTEXT] is used a parent content in mustache.
+            // See description in https://mustache.github.io/mustache.5.html#Variables
+            // See DefaultCodegen.processOpts() and DefaultCodegen.useCodegenAsMustacheParentContext
+            Object parent = bundle.get(CodegenConstants.MUSTACHE_PARENT_CONTEXT);
+            if (parent == null) {
+                LOGGER.warn("{} not found. super.processOpts needs to be called in processOpts()", CodegenConstants.MUSTACHE_PARENT_CONTEXT);
+                // avoid NPE
+                parent = new Object();
+            }
+            tmpl.execute(bundle, parent, out);
+            return out.toString();
+        });
+    }
+
+    /**
+     * Returns the settings of the compiler which affect compiled templates, comparable across compiler instances:
+     * every setting but the loader, which is replaced when compiling. Custom strategies are compared by instance,
+     * except for the stateless default collector which jmustache creates anew for every compiler.
+     */
+    private static List<Object> compilerSettings(Mustache.Compiler compiler) {
+        return COMPILER_SETTINGS.get(compiler, key -> {
+            Object collector = key.collector.getClass() == DefaultCollector.class ? DefaultCollector.class : key.collector;
+            return Arrays.asList(key.standardsMode, key.strictSections, key.nullValue, key.missingIsNull,
+                    key.emptyStringIsFalse, key.zeroIsFalse, key.formatter, key.escaper, collector, delimiters(key));
+        });
+    }
+
+    /**
+     * Returns the delimiters of the compiler. jmustache only exposes them through a protected class, so they are read
+     * reflectively, falling back to the delimiters instance, which is then compared by identity.
+     */
+    private static Object delimiters(Mustache.Compiler compiler) {
+        Object delims = compiler.delims;
+        try {
+            Class<?> type = delims.getClass();
+            return new String(new char[]{type.getField("start1").getChar(delims), type.getField("start2").getChar(delims),
+                    type.getField("end1").getChar(delims), type.getField("end2").getChar(delims)});
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return delims;
         }
-        tmpl.execute(bundle, parent, out);
-        return out.toString();
+    }
+
+    /**
+     * Gets the hit/miss counters of the compiled template cache shared by all Mustache adapters in the JVM.
+     *
+     * @return A snapshot of the cache statistics
+     */
+    public static CacheStats getTemplateCacheStats() {
+        return TEMPLATE_CACHE.stats();
+    }
+
+    /**
+     * Discards all compiled templates shared by Mustache adapters in the JVM.
+     */
+    public static void clearTemplateCache() {
+        TEMPLATE_CACHE.invalidateAll();
+    }
+
+    @Override
+    public void evictCompiledTemplates(String scope) {
+        TEMPLATE_CACHE.invalidateScope(scope);
     }
 
     @SuppressWarnings("java:S108") // catch-all is expected, and is later thrown
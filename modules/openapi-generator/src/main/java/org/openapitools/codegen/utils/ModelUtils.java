@@ -79,6 +79,7 @@ public class ModelUtils {
     private static final String freeFormExplicit = "x-is-free-form";
 
     private static final ObjectMapper JSON_MAPPER;
+
     private static final ObjectMapper YAML_MAPPER;
 
     static {
@@ -388,16 +389,18 @@ public class ModelUtils {
             once(LOGGER).warn("Failed to get the schema name: null");
             //throw new RuntimeException("Failed to get the schema: null");
             return null;
-        } else if (ref.startsWith("#/components/")) {
-            ref = ref.substring(ref.lastIndexOf("/") + 1);
-        } else if (ref.startsWith("#/definitions/")) {
-            ref = ref.substring(ref.lastIndexOf("/") + 1);
+        } else if (ref.startsWith("#/components/") || ref.startsWith("#/definitions/")) {
+            // invoked for every $ref, many times over during processing
+            return NameCaches.current().get(NameCaches.SIMPLE_REF, ref, ModelUtils::decodeSimpleRef);
         } else {
             once(LOGGER).warn("Failed to get the schema name: {}", ref);
             //throw new RuntimeException("Failed to get the schema: " + ref);
             return null;
         }
+    }
 
+    private static String decodeSimpleRef(String ref) {
+        ref = ref.substring(ref.lastIndexOf("/") + 1);
         ref = URLDecoder.decode(ref, StandardCharsets.UTF_8);
 
         // see https://tools.ietf.org/html/rfc6901#section-3
@@ -986,24 +989,32 @@ public class ModelUtils {
             return schema;
         }
 
+        SchemaReferenceIndex index = SchemaReferenceIndex.get(openAPI);
+        Schema<?> referencedSchema = index != null
+                ? index.getReferencedSchema(schema.get$ref(), ref -> resolveReference(openAPI, ref))
+                : resolveReference(openAPI, schema.get$ref());
+        return referencedSchema != null ? referencedSchema : schema;
+    }
+
+    /**
+     * Resolves a $ref to a schema or to a schema's property.
+     *
+     * @return the referenced schema, or null if the reference does not resolve
+     */
+    static Schema<?> resolveReference(OpenAPI openAPI, String ref) {
         try {
-            Schema refSchema = getSchemaFromRefToSchemaWithProperties(openAPI, schema.get$ref());
+            Schema refSchema = getSchemaFromRefToSchemaWithProperties(openAPI, ref);
             if (refSchema != null) {
                 // it's ref to schema's properties, #/components/schemas/Pet/properties/category for example
                 return refSchema;
             }
         } catch (Exception e) {
-            LOGGER.warn("Failed to parse $ref {}. Please report the issue to openapi-generator GitHub repo.", schema.get$ref());
+            LOGGER.warn("Failed to parse $ref {}. Please report the issue to openapi-generator GitHub repo.", ref);
         }
 
         // a simple ref, e.g. #/components/schemas/Pet
-        String name = getSimpleRef(schema.get$ref());
-        Schema referencedSchema = getSchema(openAPI, name);
-        if (referencedSchema != null) {
-            return referencedSchema;
-        }
-
-        return schema;
+        String name = getSimpleRef(ref);
+        return getSchema(openAPI, name);
     }
 
     /**
@@ -1366,6 +1377,18 @@ public class ModelUtils {
     public static Schema unaliasSchema(OpenAPI openAPI,
                                        Schema schema,
                                        Map<String, String> schemaMappings) {
+        if (schema != null && StringUtils.isNotEmpty(schema.get$ref())) {
+            SchemaReferenceIndex index = SchemaReferenceIndex.get(openAPI);
+            if (index != null) {
+                return index.unaliasSchema(schema, schemaMappings, s -> unaliasReferencedSchema(openAPI, s, schemaMappings));
+            }
+        }
+        return unaliasReferencedSchema(openAPI, schema, schemaMappings);
+    }
+
+    private static Schema unaliasReferencedSchema(OpenAPI openAPI,
+                                                  Schema schema,
+                                                  Map<String, String> schemaMappings) {
         Map<String, Schema> allSchemas = getSchemas(openAPI);
         if (allSchemas == null || allSchemas.isEmpty()) {
             // skip the warning as the spec can have no model defined
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.openapitools.codegen.config.GlobalSettings;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Caches of the names derived over and over while generating, e.g. camelized, underscored, escaped or sanitized names,
+ * or the schema names of $ref strings.
+ * <p>
+ * Each generator owns its caches, sized from the document it generates, so names still in use are not evicted on large
+ * documents and concurrent runs (e.g. batch generation) don't share entries. The caches of a generator are
+ * {@link #bind() bound} to the threads it generates on, where the static helpers of {@link StringUtils} use them.
+ * Elsewhere, those helpers use shared caches, bounded by {@link StringUtils#NAME_CACHE_SIZE_PROPERTY} and
+ * {@link StringUtils#NAME_CACHE_EXPIRY_PROPERTY}.
+ */
+public final class NameCaches {
+    public static final String CAMELIZE = "camelize";
+    public static final String UNDERSCORE = "underscore";
+    public static final String ESCAPE = "escape";
+    public static final String SANITIZE_NAME = "sanitizeName";
+    public static final String SIMPLE_REF = "simpleRef";
+
+    // the fewest entries of the caches of a generator, also used before the document is known
+    private static final long MINIMUM_SIZE = 500;
+    // names derived for each schema and operation, e.g. for their properties and parameters in each case variant
+    private static final long NAMES_PER_COMPONENT = 64;
+
+    private static final NameCaches SHARED = new NameCaches(
+            Long.parseLong(GlobalSettings.getProperty(StringUtils.NAME_CACHE_SIZE_PROPERTY, "200")),
+            Long.parseLong(GlobalSettings.getProperty(StringUtils.NAME_CACHE_EXPIRY_PROPERTY, "5")));
+
+    private static final ThreadLocal<NameCaches> CURRENT = new ThreadLocal<>();
+
+    private volatile long maximumSize;
+    private final long expireAfterAccessSeconds;
+    private final Map<String, Cache<Object, String>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates caches for a generator which hasn't been given a document yet.
+     */
+    public NameCaches() {
+        this(configuredSize(MINIMUM_SIZE), 0);
+    }
+
+    private NameCaches(long maximumSize, long expireAfterAccessSeconds) {
+        this.maximumSize = maximumSize;
+        this.expireAfterAccessSeconds = expireAfterAccessSeconds;
+    }
+
+    /**
+     * Sizes these caches for the number of schemas and operations of a document, unless a size is configured with
+     * {@link StringUtils#NAME_CACHE_SIZE_PROPERTY}. The caches are resized in place, so that threads they are bound to
+     * keep using the same caches as the generator.
+     *
+     * @param openAPI the document being generated
+     */
+    public void sizeFor(OpenAPI openAPI) {
+        long components = ModelUtils.getSchemas(openAPI).size();
+        if (openAPI != null && openAPI.getPaths() != null) {
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                components += pathItem.readOperations().size();
+            }
+        }
+        maximumSize = configuredSize(Math.max(MINIMUM_SIZE, components * NAMES_PER_COMPONENT));
+        caches.values().forEach(cache -> cache.policy().eviction()
+                .ifPresent(eviction -> eviction.setMaximum(maximumSize)));
+    }
+
+    /**
+     * @return the maximum number of entries of each cache
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the caches bound to the current thread, or the shared caches if none are bound
+     */
+    public static NameCaches current() {
+        NameCaches current = CURRENT.get();
+        return current == null ? SHARED : current;
+    }
+
+    /**
+     * Binds these caches to the current thread until the returned scope is closed.
+     *
+     * @return the scope, restoring the previously bound caches when closed
+     */
+    public Scope bind() {
+        NameCaches previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+
+    /**
+     * Returns the cached name for a key, deriving and caching it if absent.
+     *
+     * @param cacheName the cache, e.g. {@link #CAMELIZE}
+     * @param key       the key, i.e. the name and the options it is derived with
+     * @param derive    derives the name from the key
+     * @param <K>       the type of key
+     * @return the name
+     */
+    @SuppressWarnings("unchecked")
+    public <K> String get(String cacheName, K key, Function<? super K, String> derive) {
+        return caches.computeIfAbsent(cacheName, this::newCache).get(key, k -> derive.apply((K) k));
+    }
+
+    /**
+     * @return the statistics of each cache used so far, by cache name
+     */
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    private Cache<Object, String> newCache(String cacheName) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats();
+        if (expireAfterAccessSeconds > 0) {
+            builder.expireAfterAccess(expireAfterAccessSeconds, TimeUnit.SECONDS);
+        }
+        return builder.build();
+    }
+
+    private static long configuredSize(long size) {
+        String configured = GlobalSettings.getProperty(StringUtils.NAME_CACHE_SIZE_PROPERTY);
+        return configured == null ? size : Long.parseLong(configured);
+    }
+
+    /**
+     * The binding of caches to a thread, see {@link #bind()}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final NameCaches previous;
+
+        private Scope(NameCaches previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+
+/**
+ * Makes deep copies of OpenAPI documents, e.g. to hand out a document parsed once to several generators, which all
+ * modify their document (the normalizer, the inline model resolver, ...).
+ * <p>
+ * The objects of the document model are copied property by property, so that the copy is the same document: unlike
+ * serializing the document and deserializing it again, no default value is added and no value is converted. Objects
+ * referenced several times in the document (e.g. a schema shared by the parser) are copied once and the copies are
+ * shared the same way. Values of other types (e.g. examples and extensions) are copied if they are collections, maps,
+ * JSON trees or dates, immutable values are shared.
+ */
+public final class OpenAPICopier {
+    private static final String MODEL_PACKAGE = OpenAPI.class.getPackage().getName() + ".";
+
+    // the properties of the classes of the document model, in the (alphabetical) order of the introspector, which sets
+    // e.g. Schema#exampleSetFlag after Schema#example, as its setter also sets the flag. Schema#required is set first,
+    // as its setter drops the names which are not in Schema#properties (e.g. those of the properties of a parent).
+    private static final ClassValue<List<PropertyDescriptor>> MODEL_PROPERTIES = new ClassValue<List<PropertyDescriptor>>() {
+        @Override
+        protected List<PropertyDescriptor> computeValue(Class<?> type) {
+            List<PropertyDescriptor> properties = new ArrayList<>();
+            try {
+                for (PropertyDescriptor property : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                    if (property.getReadMethod() != null && property.getWriteMethod() != null
+                            && isModel(property.getReadMethod().getDeclaringClass())
+                            // the other properties of maps are views of their entries (e.g. ApiResponses#default)
+                            && (!Map.class.isAssignableFrom(type) || "extensions".equals(property.getName()))) {
+                        if ("required".equals(property.getName())) {
+                            properties.add(0, property);
+                        } else {
+                            properties.add(property);
+                        }
+                    }
+                }
+            } catch (IntrospectionException e) {
+                throw new IllegalStateException("Unable to copy " + type.getName(), e);
+            }
+            return properties;
+        }
+    };
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private OpenAPICopier() {
+    }
+
+    /**
+     * Makes a deep copy of an OpenAPI document.
+     *
+     * @param openAPI the document
+     * @return a copy of the document, which does not share any mutable object with the document
+     */
+    public static OpenAPI copy(OpenAPI openAPI) {
+        return (OpenAPI) new OpenAPICopier().copyValue(openAPI);
+    }
+
+    private static boolean isModel(Class<?> type) {
+        return type.getName().startsWith(MODEL_PACKAGE);
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger
+                || value instanceof Enum || value instanceof UUID || value instanceof URI || value instanceof URL
+                || value instanceof TemporalAccessor || value instanceof Class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyValue(Object value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+
+        Class<?> type = value.getClass();
+        if (isModel(type)) {
+            copy = newInstance(type);
+            copies.put(value, copy);
+            for (PropertyDescriptor property : MODEL_PROPERTIES.get(type)) {
+                try {
+                    property.getWriteMethod().invoke(copy, copyValue(property.getReadMethod().invoke(value)));
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("Unable to copy " + type.getName() + "#" + property.getName(), e);
+                }
+            }
+            // some classes of the model are maps (e.g. Paths, Content, ApiResponses)
+            if (value instanceof Map) {
+                copyEntries((Map<Object, Object>) value, (Map<Object, Object>) copy);
+            } else if (value instanceof Collection) {
+                copyElements((Collection<Object>) value, (Collection<Object>) copy);
+            }
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            Map<Object, Object> mapCopy = value instanceof SortedMap
+                    ? new TreeMap<>(((SortedMap<Object, Object>) value).comparator())
+                    : new LinkedHashMap<>(Math.max(16, (int) (map.size() / .75f) + 1));
+            copy = mapCopy;
+            copies.put(value, copy);
+            copyEntries(map, mapCopy);
+        } else if (value instanceof Collection) {
+            Collection<Object> collection = (Collection<Object>) value;
+            Collection<Object> collectionCopy;
+            if (value instanceof SortedSet) {
+                collectionCopy = new TreeSet<>(((SortedSet<Object>) value).comparator());
+            } else if (value instanceof Set) {
+                collectionCopy = new LinkedHashSet<>();
+            } else {
+                collectionCopy = new ArrayList<>(collection.size());
+            }
+            copy = collectionCopy;
+            copies.put(value, copy);
+            copyElements(collection, collectionCopy);
+        } else if (value instanceof JsonNode) {
+            copy = ((JsonNode) value).deepCopy();
+            copies.put(value, copy);
+        } else if (value instanceof Date) {
+            copy = ((Date) value).clone();
+            copies.put(value, copy);
+        } else if (value instanceof byte[]) {
+            copy = ((byte[]) value).clone();
+            copies.put(value, copy);
+        } else {
+            // not part of the document model, e.g. a value deserialized by the parser: shared as it is
+            return value;
+        }
+        return copy;
+    }
+
+    private void copyEntries(Map<Object, Object> map, Map<Object, Object> copy) {
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+    }
+
+    private void copyElements(Collection<Object> collection, Collection<Object> copy) {
+        for (Object element : collection) {
+            copy.add(copyValue(element));
+        }
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to copy " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Memoizes the resolution of {@code $ref} strings of an OpenAPI document, so {@link ModelUtils#getReferencedSchema}
+ * and {@link ModelUtils#unaliasSchema} become map lookups, without locking, on the threads generating the document.
+ * <p>
+ * An index is only used for documents it has been {@link #build(OpenAPI) built} for, which the generator does once the
+ * document has been pre-processed and processed, i.e. when generators no longer add or replace component schemas.
+ * The references to component schemas are resolved when the index is built. Code changing component schemas
+ * afterwards must {@link #build(OpenAPI) rebuild} or {@link #invalidate(OpenAPI) invalidate} the index.
+ */
+public final class SchemaReferenceIndex {
+    // documents are compared by identity, OpenAPI#equals compares whole documents
+    private static final Cache<OpenAPI, SchemaReferenceIndex> INDEXES = Caffeine.newBuilder().weakKeys().build();
+
+    private static final String SCHEMAS_REF_PREFIX = "#/components/schemas/";
+
+    // marks an unaliased schema which is the schema passed in
+    private static final Schema<?> UNRESOLVED = new Schema<>();
+
+    // the component schemas by their $ref
+    private final Map<String, Schema<?>> referencedSchemas;
+    // the unaliased schemas by $ref, by the schema mappings they are unaliased with (compared by identity), replaced
+    // when schema mappings are added
+    private volatile Map<Map<String, String>, Map<String, Schema<?>>> unaliasedSchemas = new IdentityHashMap<>();
+
+    private SchemaReferenceIndex(OpenAPI openAPI, Function<String, Schema<?>> resolve) {
+        Map<String, Schema<?>> schemas = new HashMap<>();
+        for (String name : ModelUtils.getSchemas(openAPI).keySet()) {
+            String ref = SCHEMAS_REF_PREFIX + name;
+            Schema<?> resolved = resolve.apply(ref);
+            if (resolved != null) {
+                schemas.put(ref, resolved);
+            }
+        }
+        this.referencedSchemas = Collections.unmodifiableMap(schemas);
+    }
+
+    /**
+     * Indexes the references of the given document, replacing any previous index.
+     *
+     * @param openAPI the processed document
+     */
+    public static void build(OpenAPI openAPI) {
+        if (openAPI != null) {
+            INDEXES.put(openAPI, new SchemaReferenceIndex(openAPI, ref -> ModelUtils.resolveReference(openAPI, ref)));
+        }
+    }
+
+    /**
+     * Stops indexing the references of the given document, e.g. because its schemas are about to be modified.
+     *
+     * @param openAPI the document
+     */
+    public static void invalidate(OpenAPI openAPI) {
+        if (openAPI != null) {
+            INDEXES.invalidate(openAPI);
+        }
+    }
+
+    /**
+     * @param openAPI the document
+     * @return the index of the document, or null if references of the document are not indexed
+     */
+    static SchemaReferenceIndex get(OpenAPI openAPI) {
+        return openAPI == null ? null : INDEXES.getIfPresent(openAPI);
+    }
+
+    /**
+     * @param ref     a $ref string
+     * @param resolve resolves references which are not to component schemas, e.g. to the property of a schema,
+     *                returning null if the reference does not resolve
+     * @return the referenced schema, or null if the reference does not resolve
+     */
+    Schema<?> getReferencedSchema(String ref, Function<String, Schema<?>> resolve) {
+        Schema<?> referenced = referencedSchemas.get(ref);
+        return referenced != null ? referenced : resolve.apply(ref);
+    }
+
+    /**
+     * @param schema         a schema with a $ref
+     * @param schemaMappings the schema mappings the schema is unaliased with, compared by identity
+     * @param unalias        unaliases the schema
+     * @return the unaliased schema
+     */
+    Schema unaliasSchema(Schema schema, Map<String, String> schemaMappings, Function<Schema, Schema> unalias) {
+        // callers passing a new empty map on every call all share the results without mappings
+        Map<String, String> key = schemaMappings.isEmpty() ? Collections.emptyMap() : schemaMappings;
+        Map<String, Schema<?>> unaliased = unaliasedSchemas.get(key);
+        if (unaliased == null) {
+            unaliased = addSchemaMappings(key);
+        }
+        Schema<?> cached = unaliased.get(schema.get$ref());
+        if (cached == null) {
+            // not computeIfAbsent: unaliasing recursively unaliases other references through this index
+            Schema result = unalias.apply(schema);
+            if (result == null) {
+                return null;
+            }
+            cached = result == schema ? UNRESOLVED : result;
+            unaliased.putIfAbsent(schema.get$ref(), cached);
+        }
+        return cached == UNRESOLVED ? schema : cached;
+    }
+
+    // copies the map on write, as the schema mappings a document is unaliased with hardly ever change
+    private synchronized Map<String, Schema<?>> addSchemaMappings(Map<String, String> schemaMappings) {
+        Map<String, Schema<?>> unaliased = unaliasedSchemas.get(schemaMappings);
+        if (unaliased == null) {
+            unaliased = new ConcurrentHashMap<>();
+            Map<Map<String, String>, Map<String, Schema<?>>> copy = new IdentityHashMap<>(unaliasedSchemas);
+            copy.put(schemaMappings, unaliased);
+            unaliasedSchemas = copy;
+        }
+        return unaliased;
+    }
+}
@@ -1,14 +1,9 @@
 package org.openapitools.codegen.utils;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.Ticker;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
-import org.openapitools.codegen.config.GlobalSettings;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,46 +11,15 @@ import static org.openapitools.codegen.utils.CamelizeOption.UPPERCASE_FIRST_CHAR
 
 public class StringUtils {
     /**
-     * Set the cache size (entry count) of the sanitizedNameCache, camelizedWordsCache and underscoreWordsCache.
+     * Set the cache size (entry count) of the name caches (camelized, underscored, escaped and sanitized names).
+     * By default, the caches of a generator are sized for the document being generated, see {@link NameCaches}.
      */
     public static final String NAME_CACHE_SIZE_PROPERTY = "org.openapitools.codegen.utils.namecache.cachesize";
     /**
-     * Set the cache expiry (in seconds) of the sanitizedNameCache, camelizedWordsCache and underscoreWordsCache.
+     * Set the cache expiry (in seconds) of the name caches shared outside of generator runs, see {@link NameCaches}.
      */
     public static final String NAME_CACHE_EXPIRY_PROPERTY = "org.openapitools.codegen.utils.namecache.expireafter.seconds";
 
-    // A cache of camelized words. The camelize() method is invoked many times with the same
-    // arguments, this cache is used to optimized performance.
-    private static Cache<Pair<String, CamelizeOption>, String> camelizedWordsCache;
-
-    // A cache of underscored words, used to optimize the performance of the underscore() method.
-    private static Cache<String, String> underscoreWordsCache;
-
-    // A cache of escaped words, used to optimize the performance of the escape() method.
-    private static Cache<EscapedNameOptions, String> escapedWordsCache;
-
-    static {
-        int cacheSize = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_SIZE_PROPERTY, "200"));
-        int cacheExpiry = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_EXPIRY_PROPERTY, "5"));
-        camelizedWordsCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
-
-        escapedWordsCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
-
-        underscoreWordsCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
-    }
-
     private static Pattern capitalLetterPattern = Pattern.compile("([A-Z]+)([A-Z][a-z][a-z]+)");
     private static Pattern lowercasePattern = Pattern.compile("([a-z\\d])([A-Z])");
     private static Pattern pkgSeparatorPattern = Pattern.compile("\\.");
@@ -70,7 +34,7 @@ public class StringUtils {
      * @return The underscored version of the word
      */
     public static String underscore(final String word) {
-        return underscoreWordsCache.get(word, wordToUnderscore -> {
+        return NameCaches.current().get(NameCaches.UNDERSCORE, word, wordToUnderscore -> {
             String result;
             String replacementPattern = "$1_$2";
             // Replace package separator with slash.
@@ -127,7 +91,7 @@ public class StringUtils {
     public static String camelize(final String inputWord, CamelizeOption camelizeOption) {
         Pair<String, CamelizeOption> key = new ImmutablePair<>(inputWord, camelizeOption);
 
-        return camelizedWordsCache.get(key, pair -> {
+        return NameCaches.current().get(NameCaches.CAMELIZE, key, pair -> {
             String word = pair.getKey();
             CamelizeOption option = pair.getValue();
             // Replace all slashes with dots (package separator)
@@ -262,7 +226,7 @@ public class StringUtils {
     public static String escape(final String name, final Map<String, String> replacementMap,
                                 final List<String> charactersToAllow, final String appendToReplacement) {
         EscapedNameOptions ns = new EscapedNameOptions(name, replacementMap.keySet(), charactersToAllow, appendToReplacement);
-        return escapedWordsCache.get(ns, wordToEscape -> {
+        return NameCaches.current().get(NameCaches.ESCAPE, ns, wordToEscape -> {
             String result = name.chars().mapToObj(c -> {
                 String character = String.valueOf((char) c);
                 if (charactersToAllow != null && charactersToAllow.contains(character)) {
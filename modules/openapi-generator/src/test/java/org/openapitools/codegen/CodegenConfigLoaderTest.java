@@ -0,0 +1,82 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.meta.Stability;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class CodegenConfigLoaderTest {
+
+    @Test
+    public void testForNameReturnsRequestedGenerator() {
+        CodegenConfig config = CodegenConfigLoader.forName("java");
+        Assert.assertEquals(config.getClass(), JavaClientCodegen.class);
+        Assert.assertEquals(config.getName(), "java");
+    }
+
+    @Test
+    public void testForNameFallsBackToClassName() {
+        CodegenConfig config = CodegenConfigLoader.forName(JavaClientCodegen.class.getName());
+        Assert.assertEquals(config.getClass(), JavaClientCodegen.class);
+    }
+
+    @Test
+    public void testForNameListsAvailableGenerators() {
+        GeneratorNotFoundException e = Assert.expectThrows(GeneratorNotFoundException.class,
+                () -> CodegenConfigLoader.forName("does-not-exist"));
+        Assert.assertTrue(e.getMessage().contains("\njava\n"), e.getMessage());
+    }
+
+    @Test
+    public void testIndexMatchesRegisteredGenerators() {
+        Map<String, CodegenConfigIndex.Entry> entries = CodegenConfigLoader.getAllEntries().stream()
+                .collect(Collectors.toMap(CodegenConfigIndex.Entry::getName, Function.identity()));
+        List<CodegenConfig> generators = CodegenConfigLoader.getAll();
+
+        Assert.assertEquals(entries.size(), generators.size());
+        for (CodegenConfig generator : generators) {
+            CodegenConfigIndex.Entry entry = entries.get(generator.getName());
+            Assert.assertNotNull(entry, generator.getName());
+            Assert.assertEquals(entry.getClassName(), generator.getClass().getName());
+            Assert.assertEquals(entry.getTag(), generator.getTag());
+            Assert.assertEquals(entry.getStability(), generator.getGeneratorMetadata().getStability());
+        }
+    }
+
+    @Test
+    public void testIndexRoundTrip() throws IOException {
+        List<CodegenConfigIndex.Entry> entries = Arrays.asList(
+                new CodegenConfigIndex.Entry("zeta", "com.example.Zeta", CodegenType.SERVER, Stability.BETA),
+                new CodegenConfigIndex.Entry("alpha", "com.example.Alpha", null, null));
+        StringWriter writer = new StringWriter();
+        CodegenConfigIndex.write(entries, writer);
+
+        Path file = Files.createTempFile("generators", ".index");
+        try {
+            Files.write(file, writer.toString().getBytes(StandardCharsets.UTF_8));
+            List<CodegenConfigIndex.Entry> read = CodegenConfigIndex.read(file.toUri().toURL());
+
+            Assert.assertEquals(read.size(), 2);
+            Assert.assertEquals(read.get(0).getName(), "alpha");
+            Assert.assertNull(read.get(0).getTag());
+            Assert.assertNull(read.get(0).getStability());
+            Assert.assertEquals(read.get(1).getName(), "zeta");
+            Assert.assertEquals(read.get(1).getClassName(), "com.example.Zeta");
+            Assert.assertEquals(read.get(1).getTag(), CodegenType.SERVER);
+            Assert.assertEquals(read.get(1).getStability(), Stability.BETA);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
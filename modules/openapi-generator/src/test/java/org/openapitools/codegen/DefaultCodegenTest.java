@@ -2516,6 +2516,44 @@ public class DefaultCodegenTest {
         assertFalse(roundCOut.isCircularReference);
     }
 
+    @Test
+    public void testCircularReferencesDetectionInLongChains() {
+        // given a chain of models Model0 -> Model1 -> ... -> Model9999, closed into a cycle from Model9000 to Model5000
+        DefaultCodegen codegen = new DefaultCodegen();
+        final int count = 10000;
+        final Map<String, CodegenModel> models = new HashMap<>();
+        final List<CodegenProperty> nextProperties = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final List<CodegenProperty> vars = new ArrayList<>();
+            if (i < count - 1) {
+                final CodegenProperty next = new CodegenProperty();
+                next.baseName = "next";
+                next.dataType = "Model" + (i + 1);
+                vars.add(next);
+                nextProperties.add(next);
+            }
+            if (i == 9000) {
+                final CodegenProperty back = new CodegenProperty();
+                back.baseName = "back";
+                back.dataType = "Model5000";
+                vars.add(back);
+            }
+            final CodegenModel model = new CodegenModel();
+            model.setDataType("Model" + i);
+            model.setAllVars(vars);
+            models.put("Model" + i, model);
+        }
+
+        // when
+        codegen.setCircularReferences(models);
+
+        // then only the properties within the cycle are circular references
+        for (int i = 0; i < count - 1; i++) {
+            assertEquals(nextProperties.get(i).isCircularReference, i >= 5000 && i < 9000, "Model" + i + ".next");
+        }
+        assertTrue(models.get("Model9000").getAllVars().get(1).isCircularReference);
+    }
+
     @Test
     public void testUseOneOfInterfaces() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/composed-oneof.yaml");
@@ -5066,6 +5104,47 @@ public class DefaultCodegenTest {
         assertTrue(openIdScheme.isOpenId);
     }
 
+    @Test
+    public void testModelJsonIsRenderedOnFirstUse() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        codegen.setOpenAPI(openAPI);
+        Schema category = openAPI.getComponents().getSchemas().get("Category");
+        CodegenModel model = codegen.fromModel("Category", category);
+        CodegenProperty property = model.getVars().get(0);
+
+        assertNull(model.modelJson);
+        assertNull(property.jsonSchema);
+
+        // examples generated for the operations processed afterwards are not part of the JSON of the model
+        category.setExample(Map.of("id", 1));
+        assertFalse(model.getModelJson().contains("\"example\""));
+        assertTrue(model.getModelJson().contains("\"title\" : \"Pet category\""));
+        assertNotNull(model.modelJson);
+        assertTrue(property.getJsonSchema().contains("\"format\" : \"int64\""));
+
+        model.setModelJson("{}");
+        assertEquals("{}", model.getModelJson());
+    }
+
+    @Test
+    public void testRequestBodyKeepsJsonSchemaNotRenderedYet() {
+        final DefaultCodegen codegen = new DefaultCodegen() {
+            @Override
+            protected void updateRequestBodyForPrimitiveType(CodegenParameter codegenParameter, Schema schema, String bodyParameterName, Set<String> imports) {
+                super.updateRequestBodyForPrimitiveType(codegenParameter, schema, bodyParameterName, imports);
+                codegenParameter.setJsonSchemaSupplier(() -> "{ \"type\" : \"string\" }");
+            }
+        };
+        codegen.setOpenAPI(new OpenAPI().components(new Components()));
+        RequestBody body = new RequestBody().content(new Content()
+                .addMediaType("text/plain", new MediaType().schema(new StringSchema())));
+
+        CodegenParameter codegenParameter = codegen.fromRequestBody(body, new HashSet<>(), "body");
+
+        assertEquals(codegenParameter.getJsonSchema(), "{ \"type\" : \"string\" }");
+    }
+
     private List<String> getRequiredVars(CodegenModel model) {
         return getNames(model.getRequiredVars());
     }
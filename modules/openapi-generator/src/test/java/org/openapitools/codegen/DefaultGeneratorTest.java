@@ -11,11 +11,14 @@ import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.apache.commons.io.FileUtils;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.JavaClientCodegen;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCaches;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -1013,6 +1016,174 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testParallelRenderingMatchesSequentialRendering() throws IOException {
+        Path sequentialTarget = Files.createTempDirectory("test");
+        Path parallelTarget = Files.createTempDirectory("test");
+        try {
+            List<File> sequentialFiles = generatePetstoreJavaClient(sequentialTarget, 1);
+            List<File> parallelFiles = generatePetstoreJavaClient(parallelTarget, 4);
+
+            Assert.assertEquals(parallelFiles.size(), sequentialFiles.size());
+            for (int i = 0; i < sequentialFiles.size(); i++) {
+                Path sequentialFile = sequentialFiles.get(i).toPath();
+                Path parallelFile = parallelFiles.get(i).toPath();
+                Assert.assertEquals(parallelTarget.relativize(parallelFile), sequentialTarget.relativize(sequentialFile));
+                if (Files.isRegularFile(sequentialFile)) {
+                    Assert.assertEquals(Files.readAllBytes(parallelFile), Files.readAllBytes(sequentialFile),
+                            "Content differs for " + sequentialTarget.relativize(sequentialFile));
+                }
+            }
+        } finally {
+            FileUtils.deleteDirectory(sequentialTarget.toFile());
+            FileUtils.deleteDirectory(parallelTarget.toFile());
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationOnlyRendersChangedInputs() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            Path manifest = target.resolve(".openapi-generator/MANIFEST");
+            Path user = target.resolve("src/main/java/org/openapitools/client/model/User.java");
+            Path order = target.resolve("src/main/java/org/openapitools/client/model/Order.java");
+            Path petApi = target.resolve("src/main/java/org/openapitools/client/api/PetApi.java");
+
+            generateIncrementalPetstoreJavaClient(target, true, "User", null, 1);
+            Assert.assertTrue(Files.isRegularFile(manifest));
+            Assert.assertTrue(Files.readAllLines(manifest).stream().anyMatch(line -> line.endsWith("  src/main/java/org/openapitools/client/model/User.java")));
+
+            for (Path file : Arrays.asList(user, order, petApi)) {
+                Files.write(file, "// locally modified".getBytes(StandardCharsets.UTF_8));
+            }
+
+            List<File> files = generateIncrementalPetstoreJavaClient(target, true, "User", "changed description", 1);
+
+            // the User schema changed, other inputs did not
+            Assert.assertTrue(new String(Files.readAllBytes(user), StandardCharsets.UTF_8).contains("changed description"));
+            Assert.assertEquals(new String(Files.readAllBytes(petApi), StandardCharsets.UTF_8), "// locally modified");
+            TestUtils.ensureContainsFile(files, target.toFile(), "src/main/java/org/openapitools/client/api/PetApi.java");
+            // the Java generator post-processes all models together, so every model depends on every schema
+            Assert.assertNotEquals(new String(Files.readAllBytes(order), StandardCharsets.UTF_8), "// locally modified");
+
+            // a regular run renders everything and drops the manifest
+            generateIncrementalPetstoreJavaClient(target, false, "User", "changed description", 1);
+            Assert.assertFalse(Files.exists(manifest));
+            Assert.assertNotEquals(new String(Files.readAllBytes(order), StandardCharsets.UTF_8), "// locally modified");
+        } finally {
+            FileUtils.deleteDirectory(target.toFile());
+        }
+    }
+
+    @Test
+    public void testIncrementalParallelRenderingKeepsTheOrderOfFiles() throws IOException {
+        Path sequentialTarget = Files.createTempDirectory("test");
+        Path parallelTarget = Files.createTempDirectory("test");
+        try {
+            generateIncrementalPetstoreJavaClient(sequentialTarget, true, "Order", null, 1);
+            generateIncrementalPetstoreJavaClient(parallelTarget, true, "Order", null, 4);
+
+            // files kept from the previous run (e.g. those of Pet and Tag) are recorded in order with the rendered ones
+            List<File> sequentialFiles = generateIncrementalPetstoreJavaClient(sequentialTarget, true, "Order", "changed description", 1);
+            List<File> parallelFiles = generateIncrementalPetstoreJavaClient(parallelTarget, true, "Order", "changed description", 4);
+
+            Assert.assertEquals(parallelFiles.size(), sequentialFiles.size());
+            for (int i = 0; i < sequentialFiles.size(); i++) {
+                Assert.assertEquals(parallelTarget.relativize(parallelFiles.get(i).toPath()),
+                        sequentialTarget.relativize(sequentialFiles.get(i).toPath()));
+            }
+        } finally {
+            FileUtils.deleteDirectory(sequentialTarget.toFile());
+            FileUtils.deleteDirectory(parallelTarget.toFile());
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationPostProcessesKeptFiles() throws IOException {
+        for (int renderThreads : new int[]{1, 4}) {
+            Path target = Files.createTempDirectory("test");
+            try {
+                generatePostProcessedIncrementalPetstoreJavaClient(target, renderThreads);
+                ClientOptInput clientOptInput = generatePostProcessedIncrementalPetstoreJavaClient(target, renderThreads);
+
+                // the inputs are unchanged, so the files are kept, yet post-processed like rendered files
+                File petApi = target.resolve("src/main/java/org/openapitools/client/api/PetApi.java").toFile();
+                Assert.assertTrue(((PostProcessingJavaClientCodegen) clientOptInput.getConfig()).postProcessedFiles.contains(petApi));
+            } finally {
+                FileUtils.deleteDirectory(target.toFile());
+            }
+        }
+    }
+
+    private ClientOptInput generatePostProcessedIncrementalPetstoreJavaClient(Path target, int renderThreads) {
+        ClientOptInput clientOptInput = new CodegenConfigurator()
+                .setGeneratorName(PostProcessingJavaClientCodegen.class.getName())
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setIncremental(true)
+                .setRenderThreads(renderThreads)
+                .setEnablePostProcessFile(true)
+                .setOutputDir(target.toAbsolutePath().toString())
+                .toClientOptInput();
+        new DefaultGenerator(false).opts(clientOptInput).generate();
+        return clientOptInput;
+    }
+
+    public static class PostProcessingJavaClientCodegen extends JavaClientCodegen {
+        final List<File> postProcessedFiles = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void postProcessFile(File file, String fileType) {
+            postProcessedFiles.add(file);
+        }
+    }
+
+    @Test
+    public void nameHelpersAndSanitizeNameShareTheCachesOfTheGenerator() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            ClientOptInput clientOptInput = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(target.toAbsolutePath().toString())
+                    .toClientOptInput();
+            NameCaches nameCaches = clientOptInput.getConfig().getNameCaches();
+
+            new DefaultGenerator(true).opts(clientOptInput).generate();
+
+            Assert.assertSame(clientOptInput.getConfig().getNameCaches(), nameCaches);
+            // the helpers of StringUtils use the bound caches, sanitizeName those of the generator
+            Assert.assertTrue(nameCaches.stats().get(NameCaches.CAMELIZE).requestCount() > 0);
+            Assert.assertTrue(nameCaches.stats().get(NameCaches.SANITIZE_NAME).requestCount() > 0);
+            Assert.assertTrue(nameCaches.getMaximumSize() >= 500);
+        } finally {
+            FileUtils.deleteDirectory(target.toFile());
+        }
+    }
+
+    private List<File> generateIncrementalPetstoreJavaClient(Path target, boolean incremental, String schemaName, String description, int renderThreads) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setIncremental(incremental)
+                .setRenderThreads(renderThreads)
+                .setOutputDir(target.toAbsolutePath().toString());
+        ClientOptInput clientOptInput = configurator.toClientOptInput();
+        if (description != null) {
+            clientOptInput.getOpenAPI().getComponents().getSchemas().get(schemaName).setDescription(description);
+        }
+        return new DefaultGenerator(false).opts(clientOptInput).generate();
+    }
+
+    private List<File> generatePetstoreJavaClient(Path target, int renderThreads) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setRenderThreads(renderThreads)
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                .setOutputDir(target.toAbsolutePath().toString());
+        return new DefaultGenerator(false).opts(configurator.toClientOptInput()).generate();
+    }
+
     private DefaultGenerator generatorGenerateRecursiveDependentModelsBackwardCompatibility(String recursively) throws IOException {
         DefaultGenerator generator = new DefaultGenerator(false);
         generator.setGeneratorPropertyDefault(CodegenConstants.MODELS, "true");
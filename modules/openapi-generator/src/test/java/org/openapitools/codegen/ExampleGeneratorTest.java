@@ -1,6 +1,7 @@
 package org.openapitools.codegen;
 
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.testng.annotations.Test;
 
@@ -11,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
 
 public class ExampleGeneratorTest {
     @Test
@@ -334,4 +336,21 @@ public class ExampleGeneratorTest {
         assertEquals(String.format(Locale.ROOT, "{%n  \"example_schema_property\" : \"example schema property value\"%n}"), examples.get(0).get("example"));
         assertEquals("200", examples.get(0).get("statusCode"));
     }
+
+    @Test
+    public void generateModelExampleOnce() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        Schema pet = openAPI.getComponents().getSchemas().get("Pet");
+
+        ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI);
+        List<String> mediaTypes = Collections.singletonList("application/json");
+        String example = exampleGenerator.generate(null, mediaTypes, "Pet").get(0).get("example");
+
+        exampleGenerator.resetRandom();
+        assertSame(example, exampleGenerator.generate(null, mediaTypes, "Pet").get(0).get("example"));
+
+        // the example of the model has been replaced, it is rendered again
+        pet.setExample(Collections.singletonMap("id", 1));
+        assertEquals(String.format(Locale.ROOT, "{%n  \"id\" : 1%n}"), exampleGenerator.generate(null, mediaTypes, "Pet").get(0).get("example"));
+    }
 }
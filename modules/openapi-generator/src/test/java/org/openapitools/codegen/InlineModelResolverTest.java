@@ -17,6 +17,7 @@
 
 package org.openapitools.codegen;
 
+import com.google.common.hash.HashCode;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -1100,6 +1101,40 @@ public class InlineModelResolverTest {
         assertTrue(schema2.getProperties().get("id") instanceof IntegerSchema);
     }
 
+    @Test
+    public void testInlineSchemaReuseDoesNotRelyOnFingerprintsOnly() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/inline_model_resolver.yaml");
+        new InlineModelResolver().flatten(openAPI);
+
+        // every schema has the same fingerprint
+        OpenAPI collidingOpenAPI = TestUtils.parseSpec("src/test/resources/3_0/inline_model_resolver.yaml");
+        new InlineModelResolver() {
+            @Override
+            HashCode signature(Schema model) {
+                return HashCode.fromInt(0);
+            }
+        }.flatten(collidingOpenAPI);
+
+        assertEquals(openAPI.getComponents().getSchemas().keySet(), collidingOpenAPI.getComponents().getSchemas().keySet());
+        // mega_200_response is NOT created since meta_200_response is reused
+        assertNotNull(collidingOpenAPI.getComponents().getSchemas().get("meta_200_response"));
+        assertNull(collidingOpenAPI.getComponents().getSchemas().get("mega_200_response"));
+    }
+
+    @Test
+    public void testInlineSchemaContainingItselfIsNotFingerprinted() {
+        ObjectSchema node = new ObjectSchema();
+        node.addProperty("children", new ArraySchema().items(node));
+        ObjectSchema shared = new ObjectSchema();
+        ObjectSchema pair = new ObjectSchema();
+        pair.addProperty("first", shared).addProperty("second", shared);
+
+        InlineModelResolver resolver = new InlineModelResolver();
+        assertNull(resolver.signature(node));
+        // a schema nested twice does not contain itself
+        assertNotNull(resolver.signature(pair));
+    }
+
     @Test
     public void resolveInlineRequestBodyAllOf() {
         OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/inline_model_resolver.yaml");
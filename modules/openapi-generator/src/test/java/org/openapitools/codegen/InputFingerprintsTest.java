@@ -0,0 +1,67 @@
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+public class InputFingerprintsTest {
+
+    @Test
+    public void testModelsDependOnTheSubtypesOfTheirDiscriminators() {
+        OpenAPI openAPI = zoo();
+        String animal = new InputFingerprints(new DefaultCodegen(), openAPI, null).forSchema("Animal");
+        String zoo = new InputFingerprints(new DefaultCodegen(), openAPI, null).forSchema("Zoo");
+        String keeper = new InputFingerprints(new DefaultCodegen(), openAPI, null).forSchema("Keeper");
+
+        // Puppy only composes Animal through Dog
+        openAPI.getComponents().getSchemas().get("Puppy").setDescription("changed description");
+
+        InputFingerprints fingerprints = new InputFingerprints(new DefaultCodegen(), openAPI, null);
+        assertNotEquals(fingerprints.forSchema("Animal"), animal);
+        assertNotEquals(fingerprints.forSchema("Zoo"), zoo);
+        assertEquals(fingerprints.forSchema("Keeper"), keeper);
+    }
+
+    @Test
+    public void testModelsDependOnTheTargetsOfDiscriminatorMappings() {
+        OpenAPI openAPI = zoo();
+        String animal = new InputFingerprints(new DefaultCodegen(), openAPI, null).forSchema("Animal");
+
+        openAPI.getComponents().getSchemas().get("Keeper").setDescription("changed description");
+
+        assertNotEquals(new InputFingerprints(new DefaultCodegen(), openAPI, null).forSchema("Animal"), animal);
+    }
+
+    @Test
+    public void testModelsDependOnEverySchemaWhenTheGeneratorPostProcessesAllModels() {
+        OpenAPI openAPI = zoo();
+        String defaultPuppy = new InputFingerprints(new DefaultCodegen(), openAPI, null).forSchema("Puppy");
+        String javaPuppy = new InputFingerprints(new JavaClientCodegen(), openAPI, null).forSchema("Puppy");
+
+        openAPI.getComponents().getSchemas().get("Zoo").setDescription("changed description");
+
+        assertEquals(new InputFingerprints(new DefaultCodegen(), openAPI, null).forSchema("Puppy"), defaultPuppy);
+        assertNotEquals(new InputFingerprints(new JavaClientCodegen(), openAPI, null).forSchema("Puppy"), javaPuppy);
+    }
+
+    private static OpenAPI zoo() {
+        Schema animal = new ObjectSchema()
+                .addProperty("type", new StringSchema())
+                .discriminator(new Discriminator().propertyName("type").mapping("keeper", "Keeper"));
+        return new OpenAPI().components(new Components()
+                .addSchemas("Animal", animal)
+                .addSchemas("Dog", new ComposedSchema().addAllOfItem(new Schema<>().$ref("#/components/schemas/Animal")))
+                .addSchemas("Puppy", new ComposedSchema().addAllOfItem(new Schema<>().$ref("#/components/schemas/Dog")))
+                .addSchemas("Zoo", new ObjectSchema().addProperty("animal", new Schema<>().$ref("#/components/schemas/Animal")))
+                .addSchemas("Keeper", new ObjectSchema().addProperty("name", new StringSchema())));
+    }
+}
@@ -16,14 +16,20 @@
 
 package org.openapitools.codegen;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.media.*;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.slf4j.LoggerFactory;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Array;
@@ -259,6 +265,27 @@ public class OpenAPINormalizerTest {
 
     }
 
+    @Test
+    public void testOpenAPINormalizerTimingRulesDoesNotChangeTheResult() {
+        Map<String, String> options = new HashMap<>();
+        options.put("SIMPLIFY_ONEOF_ANYOF", "true");
+        options.put("SET_PRIMITIVE_TYPES_TO_NULLABLE", "string|integer");
+        OpenAPI expected = TestUtils.parseSpec("src/test/resources/3_0/simplifyOneOfAnyOf_test.yaml");
+        new OpenAPINormalizer(expected, options).normalize();
+
+        Logger logger = (Logger) LoggerFactory.getLogger(OpenAPINormalizer.class);
+        Level level = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        try {
+            // the rules are timed when debug logging is enabled
+            OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/simplifyOneOfAnyOf_test.yaml");
+            new OpenAPINormalizer(openAPI, options).normalize();
+            assertEquals(openAPI.getComponents().getSchemas(), expected.getComponents().getSchemas());
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+
     @Test
     public void testOpenAPINormalizerSimplifyOneOfAnyOf() {
         // to test the rule SIMPLIFY_ONEOF_ANYOF
@@ -1306,6 +1333,34 @@ public class OpenAPINormalizerTest {
         assertNotNull(inlinePropertyAfter.getProperties().get("nestedNumber"));
     }
 
+    @Test
+    public void testOpenAPINormalizerNormalizesSharedResponseOnce() {
+        Schema errorSchema = new ObjectSchema().addProperty("message", new StringSchema());
+        ApiResponse error = new ApiResponse().description("Error")
+                .content(new Content().addMediaType("application/json", new MediaType().schema(errorSchema)));
+        OpenAPI openAPI = new OpenAPI()
+                .components(new Components().addResponses("Error", error))
+                .paths(new Paths());
+        for (String path : Arrays.asList("/a", "/b")) {
+            Operation operation = new Operation().operationId(path.substring(1))
+                    .responses(new ApiResponses().addApiResponse("400", new ApiResponse().$ref("#/components/responses/Error")));
+            openAPI.getPaths().addPathItem(path, new PathItem().get(operation));
+        }
+
+        List<Schema> normalizedSchemas = new ArrayList<>();
+        new OpenAPINormalizer(openAPI, Collections.emptyMap()) {
+            @Override
+            public Schema normalizeSchema(Schema schema, Set<Schema> visitedSchemas) {
+                normalizedSchemas.add(schema);
+                return super.normalizeSchema(schema, visitedSchemas);
+            }
+        }.normalize();
+
+        // referenced by both operations and listed in the components, but normalized once
+        assertEquals(normalizedSchemas.stream().filter(schema -> schema == errorSchema).count(), 1L);
+        assertTrue(normalizedSchemas.contains(errorSchema.getProperties().get("message")));
+    }
+
     public static class RemoveRequiredNormalizer extends OpenAPINormalizer {
 
         public RemoveRequiredNormalizer(OpenAPI openAPI, Map<String, String> inputRules) {
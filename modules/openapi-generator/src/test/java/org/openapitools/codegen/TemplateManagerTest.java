@@ -1,5 +1,6 @@
 package org.openapitools.codegen;
 
+import com.samskivert.mustache.Mustache;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.templating.HandlebarsEngineAdapter;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
@@ -35,6 +36,13 @@ public class TemplateManagerTest {
         }
     }
 
+    static class ClasspathTemplateLoader extends ResourceTemplateLoader {
+        @Override
+        public String getTemplateCacheScope() {
+            return "classpath:templating/templates";
+        }
+    }
+
     private final HandlebarsEngineAdapter handlebarsEngineAdapter = new HandlebarsEngineAdapter();
     private final MustacheEngineAdapter mustacheEngineAdapter = new MustacheEngineAdapter();
     private final TemplatePathLocator locator = new ResourceTemplateLoader();
@@ -186,6 +194,44 @@ public class TemplateManagerTest {
         }
     }
 
+    @Test
+    public void minimalUpdateDoesNotWriteTemporaryFiles() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(true, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        try {
+            File output = new File(target.toFile(), "simple.txt");
+            manager.write(data, "simple.mustache", output);
+            manager.write(data, "simple.mustache", output);
+            data.put("age", "4");
+            manager.write(data, "simple.mustache", output);
+
+            assertEquals(Files.readAllLines(output.toPath()).get(0), "Teddy and 4");
+            assertEquals(target.toFile().list(), new String[]{"simple.txt"});
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void contentEqualsComparesSizeAndBytes() throws IOException {
+        Path file = Files.createTempFile("test-templatemanager", ".txt");
+        try {
+            Files.write(file, "Teddy and 3".getBytes(StandardCharsets.UTF_8));
+
+            assertTrue(TemplateManager.contentEquals(file, "Teddy and 3".getBytes(StandardCharsets.UTF_8)));
+            assertFalse(TemplateManager.contentEquals(file, "Teddy and 4".getBytes(StandardCharsets.UTF_8)));
+            assertFalse(TemplateManager.contentEquals(file, "Teddy and 30".getBytes(StandardCharsets.UTF_8)));
+            assertFalse(TemplateManager.contentEquals(file.resolveSibling(file.getFileName() + ".missing"), new byte[0]));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     public void overwritesWhenSkipOverwriteFalse() throws IOException {
         TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
@@ -248,4 +294,74 @@ public class TemplateManagerTest {
             target.toFile().delete();
         }
     }
+
+    @Test
+    public void templateCacheScopeIsSharedOnlyForClasspathLoaders() {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        TemplateManager first = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader()});
+        TemplateManager second = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader()});
+        assertEquals(first.getTemplateCacheScope(), second.getTemplateCacheScope());
+
+        TemplateManager third = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader(), locator});
+        TemplateManager fourth = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader(), locator});
+        assertNotEquals(third.getTemplateCacheScope(), fourth.getTemplateCacheScope());
+        assertEquals(third.getTemplateCacheScope(), third.getTemplateCacheScope());
+    }
+
+    @Test
+    public void compiledTemplatesAreReusedAcrossManagers() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+
+        long mustacheHits = MustacheEngineAdapter.getTemplateCacheStats().hitCount();
+        TemplateManager first = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader()});
+        TemplateManager second = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader()});
+        assertEquals(mustacheEngineAdapter.compileTemplate(first, data, "simple.mustache"), "Teddy and 3");
+        data.put("name", "Jack");
+        assertEquals(new MustacheEngineAdapter().compileTemplate(second, data, "simple.mustache"), "Jack and 3");
+        assertTrue(MustacheEngineAdapter.getTemplateCacheStats().hitCount() > mustacheHits);
+
+        data.put("numbers", Arrays.asList(1, 2, 3));
+        long handlebarsHits = HandlebarsEngineAdapter.getTemplateCacheStats().hitCount();
+        first = new TemplateManager(opts, handlebarsEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader()});
+        second = new TemplateManager(opts, handlebarsEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader()});
+        assertEquals(handlebarsEngineAdapter.compileTemplate(first, data, "numbers.handlebars"), "Jack counts 1 2 3");
+        data.put("numbers", Arrays.asList(4, 5));
+        assertEquals(new HandlebarsEngineAdapter().compileTemplate(second, data, "numbers.handlebars"), "Jack counts 4 5");
+        assertTrue(HandlebarsEngineAdapter.getTemplateCacheStats().hitCount() > handlebarsHits);
+    }
+
+    @Test
+    public void compiledTemplatesDependOnTheCompilerDelimiters() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{new ClasspathTemplateLoader()});
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+        assertEquals(mustacheEngineAdapter.compileTemplate(manager, data, "simple.mustache"), "Teddy and 3");
+
+        MustacheEngineAdapter erbStyle = new MustacheEngineAdapter();
+        erbStyle.setCompiler(Mustache.compiler().withDelims("<% %>"));
+        assertEquals(erbStyle.compileTemplate(manager, data, "simple.mustache"), "{{name}} and {{age}}");
+    }
+
+    @Test
+    public void evictCompiledTemplatesDiscardsTheTemplatesOfTheInstance() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+        mustacheEngineAdapter.compileTemplate(manager, data, "simple.mustache");
+
+        long misses = MustacheEngineAdapter.getTemplateCacheStats().missCount();
+        mustacheEngineAdapter.compileTemplate(manager, data, "simple.mustache");
+        assertEquals(MustacheEngineAdapter.getTemplateCacheStats().missCount(), misses);
+
+        manager.evictCompiledTemplates();
+        mustacheEngineAdapter.compileTemplate(manager, data, "simple.mustache");
+        assertEquals(MustacheEngineAdapter.getTemplateCacheStats().missCount(), misses + 1);
+    }
 }
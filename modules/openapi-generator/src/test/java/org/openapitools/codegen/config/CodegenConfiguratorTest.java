@@ -24,8 +24,7 @@ import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.testutils.ConfigAssert;
 import org.testng.annotations.Test;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
@@ -133,4 +132,54 @@ public class CodegenConfiguratorTest {
 
         Assertions.assertNotNull(context.getSpecDocument().getPaths().get("/hello").getGet().getResponses().get("200").getContent());
     }
+
+    @Test
+    public void sharesParsedSpecs() {
+        ParsedSpecCache parsedSpecCache = new ParsedSpecCache(10);
+
+        @SuppressWarnings("unchecked") Context<OpenAPI> first = (Context<OpenAPI>) new CodegenConfigurator()
+                .setInputSpec("src/test/resources/3_0/response-ref.yaml")
+                .setGeneratorName("java")
+                .setParsedSpecCache(parsedSpecCache)
+                .toContext();
+        @SuppressWarnings("unchecked") Context<OpenAPI> second = (Context<OpenAPI>) new CodegenConfigurator()
+                .setInputSpec("src/test/resources/3_0/../3_0/response-ref.yaml")
+                .setGeneratorName("kotlin")
+                .setParsedSpecCache(parsedSpecCache)
+                .toContext();
+
+        Assertions.assertEquals(1, parsedSpecCache.stats().missCount());
+        Assertions.assertEquals(1, parsedSpecCache.stats().hitCount());
+        Assertions.assertNotSame(first.getSpecDocument(), second.getSpecDocument());
+        Assertions.assertNotSame(first.getSpecDocument().getPaths(), second.getSpecDocument().getPaths());
+        Assertions.assertNotNull(second.getSpecDocument().getPaths().get("/hello").getGet().getResponses().get("200").getContent());
+    }
+
+    @Test
+    public void survivesSerialization() throws IOException, ClassNotFoundException {
+        CodegenConfigurator configurator = new CodegenConfigurator()
+                .setInputSpec("src/test/resources/3_0/ping.yaml")
+                .setGeneratorName("java")
+                .setApiPackage("test-api")
+                .addAdditionalProperty("foo", "bar")
+                .addTypeMapping("eight", "nine")
+                .addGlobalProperty("six", "seven")
+                .setParsedSpecCache(new ParsedSpecCache(10));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(configurator);
+        }
+        CodegenConfigurator copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (CodegenConfigurator) in.readObject();
+        }
+
+        Context<?> context = copy.toContext();
+        Assertions.assertEquals("java", context.getGeneratorSettings().getGeneratorName());
+        Assertions.assertEquals("test-api", context.getGeneratorSettings().getApiPackage());
+        Assertions.assertEquals("bar", context.getGeneratorSettings().getAdditionalProperties().get("foo"));
+        Assertions.assertEquals("nine", context.getGeneratorSettings().getTypeMappings().get("eight"));
+        Assertions.assertEquals("seven", context.getWorkflowSettings().getGlobalProperties().get("six"));
+    }
 }
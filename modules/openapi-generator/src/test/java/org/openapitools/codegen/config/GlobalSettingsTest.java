@@ -38,4 +38,32 @@ public class GlobalSettingsTest {
     //    assertThatNoException().isThrownBy(GlobalSettings::log);
     //}
 
+    @Test
+    public void testBoundSettingsAreIsolatedFromThreadSettings() throws Exception {
+        GlobalSettings.setProperty("globalSettingsTest", "thread");
+        try {
+            Properties run = GlobalSettings.copy();
+            try (GlobalSettings.Scope ignored = GlobalSettings.bind(run)) {
+                assertThat(GlobalSettings.getProperty("globalSettingsTest")).isEqualTo("thread");
+                GlobalSettings.setProperty("globalSettingsTest", "run");
+
+                // other threads see the settings once bound, e.g. threads rendering files of the run
+                String[] seen = new String[2];
+                Thread other = new Thread(() -> {
+                    seen[0] = GlobalSettings.getProperty("globalSettingsTest");
+                    try (GlobalSettings.Scope bound = GlobalSettings.bind(run)) {
+                        seen[1] = GlobalSettings.getProperty("globalSettingsTest");
+                    }
+                    GlobalSettings.setProperty("globalSettingsTest", "child");
+                });
+                other.start();
+                other.join();
+                assertThat(seen).containsExactly("thread", "run");
+            }
+            assertThat(GlobalSettings.getProperty("globalSettingsTest")).isEqualTo("thread");
+            assertThat(run.getProperty("globalSettingsTest")).isEqualTo("run");
+        } finally {
+            GlobalSettings.clearProperty("globalSettingsTest");
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package org.openapitools.codegen.config;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.collect.ImmutableMap;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -8,13 +11,17 @@ import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.java.assertions.JavaFileAssert;
 import org.openapitools.codegen.languages.SpringCodegen;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,6 +39,35 @@ public class MergedSpecBuilderTest {
         mergeSpecs("json");
     }
 
+    @Test
+    public void shouldMergePathsAndServersOfSpecs() throws IOException {
+        File output = Files.createTempDirectory("spec-directory").toFile().getCanonicalFile();
+        output.deleteOnExit();
+
+        Files.copy(Paths.get("src/test/resources/bugs/mergerTest/spec1.yaml"), output.toPath().resolve("spec1.yaml"));
+        Files.write(output.toPath().resolve("spec3.yaml"), List.of(
+                "openapi: 3.0.3",
+                "info: {title: spec3, version: 1.0.0}",
+                "x-servers: [{url: ignored}]",
+                "paths:",
+                "  /spec3/{id}:",
+                "    $ref: './spec1.yaml#/paths/~1spec1'"));
+        Files.write(output.toPath().resolve("README.md"), List.of("# Not a spec"));
+
+        String mergedSpec = new MergedSpecBuilder(output.getAbsolutePath(), "_merged_file").buildMergedSpec();
+        JsonNode merged = new ObjectMapper(new YAMLFactory()).readTree(new File(mergedSpec));
+
+        Assert.assertEquals(merged.get("openapi").asText(), "3.0.3");
+        Set<String> paths = new HashSet<>();
+        merged.get("paths").fieldNames().forEachRemaining(paths::add);
+        Assert.assertEquals(paths, Set.of("/spec1", "/spec1/complex/{param1}/path", "/spec3/{id}"));
+        Assert.assertEquals(merged.get("paths").get("/spec3/{id}").get("$ref").asText(), "./spec3.yaml#/paths/~1spec3~1{id}");
+        Set<String> servers = new HashSet<>();
+        merged.get("servers").forEach(server -> servers.add(server.get("url").asText()));
+        // a spec without servers is served from /, as the parser does
+        Assert.assertEquals(servers, Set.of("api.my-domain.com/my-context-root/v1", "hom-api.my-domain.com/my-context-root/v1", "/"));
+    }
+
     private void mergeSpecs(String fileExt) throws IOException {
         File output = Files.createTempDirectory("spec-directory").toFile().getCanonicalFile();
         output.deleteOnExit();
@@ -375,6 +375,64 @@ public class GoClientCodegenTest {
         TestUtils.assertFileNotContains(Paths.get(output + "/model_pet.go"), "bytes");
     }
 
+    @Test
+    public void testSinglePassUnmarshal() throws IOException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(GoClientCodegen.USE_SINGLE_PASS_UNMARSHAL, true);
+
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        DefaultGenerator generator = new DefaultGenerator();
+        List<File> files = generator.opts(configurator.toClientOptInput()).generate();
+        files.forEach(File::deleteOnExit);
+
+        TestUtils.assertFileContains(Paths.get(output + "/model_pet.go"),
+                "PhotoUrls json.RawMessage `json:\"photoUrls\"`",
+                "if err = newStrictDecoder(fields.PhotoUrls).Decode(&varPet.PhotoUrls); err != nil {");
+        TestUtils.assertFileNotContains(Paths.get(output + "/model_pet.go"), "allProperties");
+        // the embedded parent would take over the decoding of the struct capturing the required properties
+        TestUtils.assertFileContains(Paths.get(output + "/model_dog.go"), "allProperties");
+        TestUtils.assertFileContains(Paths.get(output + "/test/model_benchmark_test.go"),
+                "func BenchmarkPetUnmarshalJSON(b *testing.B) {",
+                "func BenchmarkPetArrayUnmarshalJSON(b *testing.B) {");
+        TestUtils.assertFileNotContains(Paths.get(output + "/test/model_benchmark_test.go"), "BenchmarkDogUnmarshalJSON");
+    }
+
+    @Test
+    public void testStreamingFiles() throws IOException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(GoClientCodegen.USE_STREAMING_FILES, true);
+
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/3_0/echo_api.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        DefaultGenerator generator = new DefaultGenerator();
+        List<File> files = generator.opts(configurator.toClientOptInput()).generate();
+        files.forEach(File::deleteOnExit);
+
+        TestUtils.assertFileContains(Paths.get(output + "/api_body.go"),
+                "func (r ApiTestBinaryGifRequest) DownloadTo(w io.Writer) ApiTestBinaryGifRequest {",
+                "localVarReturnValue, err = a.client.download(localVarHTTPResponse.Body)",
+                "formFiles = append(formFiles, formFile{fileReader: filesLocalVarFileValue, fileName: filesLocalVarFileValue.Name(), formFileName: filesLocalVarFormFileName})");
+        TestUtils.assertFileNotContains(Paths.get(output + "/api_body.go"), "io.ReadAll(filesLocalVarFileValue)");
+        TestUtils.assertFileContains(Paths.get(output + "/client.go"),
+                "pipeWriter.CloseWithError(writeMultipartForm(w, formParams, formFiles))",
+                "localVarRequest, err = http.NewRequest(method, url.String(), bodyReader)");
+    }
+
     @Test
     public void testAdditionalPropertiesWithGoMod() throws Exception {
         File output = Files.createTempDirectory("test").toFile();
@@ -55,5 +55,7 @@ public class GoClientOptionsTest extends AbstractOptionsTest {
         verify(clientCodegen).setGenerateMarshalJSON(GoClientOptionsProvider.GENERATE_MARSHAL_JSON_VALUE);
         verify(clientCodegen).setGenerateUnmarshalJSON(GoClientOptionsProvider.GENERATE_UNMARSHAL_JSON_VALUE);
         verify(clientCodegen).setUseDefaultValuesForRequiredVars(GoClientOptionsProvider.USE_DEFAULT_VALUES_FOR_REQUIRED_VARS_VALUE);
+        verify(clientCodegen).setUseSinglePassUnmarshal(GoClientOptionsProvider.USE_SINGLE_PASS_UNMARSHAL_VALUE);
+        verify(clientCodegen).setUseStreamingFiles(GoClientOptionsProvider.USE_STREAMING_FILES_VALUE);
     }
 }
@@ -0,0 +1,94 @@
+package org.openapitools.codegen.ignore.rules;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.FileSystems;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class IgnoreMatcherTest {
+
+    private static final List<String> PATHS = Arrays.asList(
+            "README.md", "docs/README.md", "pom.xml", "build.gradle", ".gitignore",
+            "src/main/java/org/openapitools/client/ApiClient.java",
+            "src/main/java/org/openapitools/client/model/Pet.java",
+            "src/main/java/org/openapitools/client/model/Category.java",
+            "src/main/java/org/openapitools/client/api/PetApi.java",
+            "src/test/java/org/openapitools/client/api/PetApiTest.java",
+            "docs/Pet.md", "docs/PetApi.md", "docs/sub/Nested.md",
+            "api/openapi.yaml", "gradle/wrapper/gradle-wrapper.jar", "gradle/wrapper/gradle-wrapper.properties",
+            "gradlew", "gradlew.bat", "logs/app.log", "ISSUE_1234.log", "other.log",
+            "foo/bar/baz/file.txt", "bar/file.txt", "a/b", "a/x/b", "a/x/y/b", "test.bak", "dir/test.bak");
+
+    @Test
+    public void testGlobTranslationMatchesPathMatcher() {
+        List<String> globs = Arrays.asList(
+                "*.md", "docs/*.md", "**/*.java", "src/**", "**/model/*.java", "src/main/java/**/api/*",
+                "gradle?", "gradlew.{bat,sh}", "[a-c]/b", "[!a]/b", "a/**/b", "*.{log,bak}", "\\*.md", "docs/[PQ]et*.md",
+                "README.md", "foo/bar/baz/**");
+
+        for (String glob : globs) {
+            PathMatcher expected = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+            Pattern actual = Pattern.compile(IgnoreMatcher.toRegex(glob));
+            for (String path : PATHS) {
+                Assert.assertEquals(actual.matcher(path).matches(), expected.matches(FileSystems.getDefault().getPath(path)),
+                        glob + " against " + path);
+            }
+        }
+    }
+
+    @Test
+    public void testCompiledRulesMatchRuleByRuleEvaluation() {
+        List<String> definitions = Arrays.asList(
+                "# comment", "*.md", "!docs/Pet.md", "gradle/", "!gradle/wrapper/", "**/*.log", "!ISSUE_1234.log",
+                "src/main/java/org/openapitools/client/model/", "!src/main/java/org/openapitools/client/model/Pet.java",
+                "foo/bar/baz/", "!bar/", "a/**/b", "/test.bak", "gradlew.{bat,sh}", "build.gradle",
+                "src/test/**/*Test.java", "/*.xml", "docs/sub/");
+
+        List<Rule> exclusionRules = new ArrayList<>();
+        List<Rule> inclusionRules = new ArrayList<>();
+        for (String definition : definitions) {
+            Rule rule = Rule.create(definition);
+            if (rule != null) {
+                (Boolean.TRUE.equals(rule.getNegated()) ? inclusionRules : exclusionRules).add(rule);
+            }
+        }
+
+        IgnoreMatcher matcher = IgnoreMatcher.compile(exclusionRules, inclusionRules);
+        Assert.assertNotNull(matcher);
+        for (String path : PATHS) {
+            Assert.assertEquals(matcher.allows(path), allowsRuleByRule(exclusionRules, inclusionRules, path), path);
+        }
+
+        Assert.assertFalse(matcher.allows("README.md"));
+        Assert.assertTrue(matcher.allows("docs/Pet.md"));
+        Assert.assertTrue(matcher.allows("gradle/wrapper/gradle-wrapper.jar"));
+        Assert.assertFalse(matcher.allows("src/main/java/org/openapitools/client/model/Pet.java"));
+        Assert.assertTrue(matcher.allows("src/main/java/org/openapitools/client/api/PetApi.java"));
+        Assert.assertTrue(matcher.allows("ISSUE_1234.log"));
+        Assert.assertFalse(matcher.allows("foo/bar/baz/file.txt"));
+        Assert.assertTrue(matcher.allows("dir/test.bak"));
+    }
+
+    private static boolean allowsRuleByRule(List<Rule> exclusionRules, List<Rule> inclusionRules, String path) {
+        boolean exclude = false;
+        boolean directoryExcluded = false;
+        for (Rule rule : exclusionRules) {
+            if (rule.evaluate(path) == Rule.Operation.EXCLUDE) {
+                exclude = true;
+                directoryExcluded |= rule instanceof DirectoryRule;
+            }
+        }
+        for (Rule rule : inclusionRules) {
+            if (exclude && rule.evaluate(path) == Rule.Operation.INCLUDE
+                    && (rule instanceof DirectoryRule || !directoryExcluded)) {
+                exclude = false;
+            }
+        }
+        return !exclude;
+    }
+}
@@ -43,6 +43,7 @@ import org.openapitools.codegen.languages.JavaClientCodegen;
 import org.openapitools.codegen.languages.features.BeanValidationFeatures;
 import org.openapitools.codegen.languages.features.CXFServerFeatures;
 import org.openapitools.codegen.meta.features.SecurityFeature;
+import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
 import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.testutils.ConfigAssert;
@@ -581,6 +582,108 @@ public class JavaClientCodegenTest {
                 .contains("@Pattern", "import jakarta.validation.constraints.*");
     }
 
+    @Test
+    public void testJdkHttpClientWithStreamingDeserialization() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName(JAVA_GENERATOR)
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+                .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_DESERIALIZATION, true)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PetApi.java")).content()
+                .contains(
+                        "findPetsByStatusResponseReader = memberVarObjectMapper.readerFor(new TypeReference<List<Pet>>() {});",
+                        "findPetsByStatusItemReader = memberVarObjectMapper.readerFor(new TypeReference<Pet>() {});",
+                        "List<Pet> responseValue = readResponseBody(findPetsByStatusResponseReader, localVarResponseBody);",
+                        "public Stream<Pet> findPetsByStatusStream(@javax.annotation.Nonnull List<String> status, Map<String, String> headers) throws ApiException {",
+                        "return streamResponseBody(findPetsByStatusItemReader, localVarResponseBody);"
+                )
+                .doesNotContain("new String(localVarResponseBody.readAllBytes())");
+    }
+
+    @Test
+    public void testJdkHttpAsyncClientWithStreamingDeserialization() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName(JAVA_GENERATOR)
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+                .addAdditionalProperty(JavaClientCodegen.ASYNC_NATIVE, true)
+                .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_DESERIALIZATION, true)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PetApi.java")).content()
+                .contains("List<Pet> responseValue = readResponseBody(findPetsByStatusResponseReader, localVarResponseBody);")
+                .doesNotContain("ItemReader", "Stream<Pet>");
+    }
+
+    @Test
+    public void testOkHttpGsonWithStreamingTypeAdapters() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName(JAVA_GENERATOR)
+                .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+                .addAdditionalProperty(CodegenConstants.MODEL_PACKAGE, "xyz.abcdef.model")
+                .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_TYPE_ADAPTERS, true)
+                .setInputSpec("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/model/Pet.java")).content()
+                .contains("nameFieldAdapter.read(in)", "boolean photoUrlsPresent = false;")
+                .doesNotContain("elementAdapter.read(in)");
+        assertThat(output.resolve("src/main/java/xyz/abcdef/model/Dog.java")).content()
+                .contains("elementAdapter.read(in)")
+                .doesNotContain("FieldAdapter");
+        // the parent of Dog and Cat
+        assertThat(output.resolve("src/main/java/xyz/abcdef/model/Animal.java")).content()
+                .doesNotContain("import com.google.gson.stream.JsonToken;", "FieldAdapter");
+    }
+
+    @Test
+    public void testOkHttpGsonStreamingTypeAdaptersSkipParentModels() {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName(JAVA_GENERATOR)
+                .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+                .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_TYPE_ADAPTERS, true)
+                .setInputSpec("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                .setOutputDir(newTempFolder().toString().replace("\\", "/"));
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        final Map<String, CodegenModel> models = new HashMap<>();
+        final JavaClientCodegen codegen = new JavaClientCodegen() {
+            @Override
+            public Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs) {
+                objs = super.postProcessAllModels(objs);
+                objs.values().forEach(modelsMap -> modelsMap.getModels().forEach(mo -> models.put(mo.getModel().name, mo.getModel())));
+                return objs;
+            }
+        };
+        codegen.setLibrary(JavaClientCodegen.OKHTTP_GSON);
+        codegen.additionalProperties().putAll(clientOptInput.getConfig().additionalProperties());
+        codegen.setOutputDir(clientOptInput.getConfig().getOutputDir());
+
+        DefaultGenerator generator = new DefaultGenerator(true);
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODELS, "true");
+        generator.opts(new ClientOptInput().openAPI(clientOptInput.getOpenAPI()).config(codegen)).generate();
+
+        assertTrue(models.get("Animal").hasChildren);
+        assertNull(models.get("Animal").getVendorExtensions().get("x-streaming-type-adapter"));
+        assertNull(models.get("Dog").getVendorExtensions().get("x-streaming-type-adapter"));
+        assertEquals(models.get("Pet").getVendorExtensions().get("x-streaming-type-adapter"), true);
+    }
+
     @Test
     public void testJdkHttpClientWithAndWithoutDiscriminator() {
         final Path output = newTempFolder();
@@ -40,6 +40,8 @@ public class GoClientOptionsProvider implements OptionsProvider {
     public static final boolean GENERATE_MARSHAL_JSON_VALUE = true;
     public static final boolean GENERATE_UNMARSHAL_JSON_VALUE = true;
     public static final boolean USE_DEFAULT_VALUES_FOR_REQUIRED_VARS_VALUE = true;
+    public static final boolean USE_SINGLE_PASS_UNMARSHAL_VALUE = true;
+    public static final boolean USE_STREAMING_FILES_VALUE = true;
 
     @Override
     public String getLanguage() {
@@ -66,6 +68,8 @@ public class GoClientOptionsProvider implements OptionsProvider {
                 .put("generateInterfaces", "true")
                 .put("structPrefix", "true")
                 .put(CodegenConstants.USE_DEFAULT_VALUES_FOR_REQUIRED_VARS, "true")
+                .put("useSinglePassUnmarshal", "true")
+                .put("useStreamingFiles", "true")
                 .build();
     }
 
@@ -685,4 +685,33 @@ public class PythonClientCodegenTest {
         // Verify it does NOT use the legacy string format
         TestUtils.assertFileNotContains(pyprojectPath, "license = \"BSD-3-Clause\"");
     }
+
+    @Test(description = "Verify useTypeAdapters validates the JSON of plain models with TypeAdapters")
+    public void testUseTypeAdapters() throws IOException {
+        File output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setGeneratorName("python")
+            .setInputSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+            .setOutputDir(output.getAbsolutePath())
+            .addAdditionalProperty(PythonClientCodegen.USE_TYPE_ADAPTERS, true)
+            .addAdditionalProperty(CodegenConstants.DISALLOW_ADDITIONAL_PROPERTIES_IF_NOT_PRESENT, true);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        List<File> files = generator.opts(configurator.toClientOptInput()).generate();
+        files.forEach(File::deleteOnExit);
+
+        Path apiClientPath = Paths.get(output.getAbsolutePath(), "openapi_client", "api_client.py");
+        TestUtils.assertFileContains(apiClientPath,
+                "from pydantic import TypeAdapter",
+                "'Tag',",
+                "return type_adapter.validate_json(response_text)");
+        // Category replaces a null name by its default, and Pet refers to Category
+        TestUtils.assertFileNotContains(apiClientPath, "'Category',", "'Pet',");
+        // from_dict looks up the model of the discriminator
+        TestUtils.assertFileNotContains(apiClientPath, "'Animal',");
+        TestUtils.assertFileContains(Paths.get(output.getAbsolutePath(), "openapi_client", "models", "tag.py"), "extra=\"forbid\",");
+        TestUtils.assertFileNotContains(Paths.get(output.getAbsolutePath(), "openapi_client", "models", "pet.py"), "extra=\"forbid\",");
+    }
 }
@@ -242,6 +242,47 @@ public class ModelUtilsTest {
         Assert.assertEquals(stringSchema, ModelUtils.unaliasSchema(openAPI, emailSchema, new HashMap<>()));
     }
 
+    @Test
+    public void testReferenceIndexResolvesLikeUnindexedLookups() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        Schema refToPet = new Schema().$ref("#/components/schemas/Pet");
+        Schema refToCategory = new Schema().$ref("#/components/schemas/Pet/properties/category");
+        Schema refToMissing = new Schema().$ref("#/components/schemas/Missing");
+
+        Schema pet = ModelUtils.getReferencedSchema(openAPI, refToPet);
+        Schema category = ModelUtils.getReferencedSchema(openAPI, refToCategory);
+        Schema unaliasedPet = ModelUtils.unaliasSchema(openAPI, refToPet);
+
+        SchemaReferenceIndex.build(openAPI);
+        try {
+            for (int i = 0; i < 2; i++) {
+                assertSame(ModelUtils.getReferencedSchema(openAPI, refToPet), pet);
+                assertSame(ModelUtils.getReferencedSchema(openAPI, refToCategory), category);
+                assertSame(ModelUtils.getReferencedSchema(openAPI, refToMissing), refToMissing);
+                assertSame(ModelUtils.unaliasSchema(openAPI, refToPet), unaliasedPet);
+            }
+
+            // another schema with the same reference is unaliased to itself, as without index
+            Schema otherRefToPet = new Schema().$ref("#/components/schemas/Pet");
+            assertSame(ModelUtils.unaliasSchema(openAPI, otherRefToPet, new HashMap<>()), otherRefToPet);
+
+            // references which are not to component schemas are resolved as without index
+            StringSchema missing = new StringSchema();
+            openAPI.getComponents().addSchemas("Missing", missing);
+            assertSame(ModelUtils.getReferencedSchema(openAPI, refToMissing), missing);
+
+            // component schemas replaced afterwards are only resolved once the index is rebuilt
+            ObjectSchema newPet = new ObjectSchema();
+            openAPI.getComponents().addSchemas("Pet", newPet);
+            assertSame(ModelUtils.getReferencedSchema(openAPI, refToPet), pet);
+            SchemaReferenceIndex.build(openAPI);
+            assertSame(ModelUtils.getReferencedSchema(openAPI, refToPet), newPet);
+            assertSame(ModelUtils.unaliasSchema(openAPI, refToMissing), missing);
+        } finally {
+            SchemaReferenceIndex.invalidate(openAPI);
+        }
+    }
+
     /**
      * Issue https://github.com/OpenAPITools/openapi-generator/issues/1624.
      * ModelUtils.isFreeFormObject() should not throw an NPE when passed an empty
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openapitools.codegen.TestUtils;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class OpenAPICopierTest {
+
+    @Test
+    public void copiesSerializeLikeTheOriginal() {
+        for (String file : new String[]{
+                "src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml",
+                "src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml",
+                "src/test/resources/3_1/composed-schema.yaml"}) {
+            OpenAPI openAPI = TestUtils.parseSpec(file);
+            OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+            assertEquals(copy.getSpecVersion(), openAPI.getSpecVersion(), file);
+            if (openAPI.getSpecVersion() == SpecVersion.V31) {
+                assertEquals(Json31.pretty(copy), Json31.pretty(openAPI), file);
+            } else {
+                assertEquals(Json.pretty(copy), Json.pretty(openAPI), file);
+            }
+        }
+    }
+
+    @Test
+    public void copiesAreIndependent() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml");
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        assertNotSame(copy.getComponents().getSchemas(), openAPI.getComponents().getSchemas());
+        assertNotSame(copy.getComponents().getSchemas().get("Pet"), openAPI.getComponents().getSchemas().get("Pet"));
+        assertNotSame(copy.getPaths().get("/pet"), openAPI.getPaths().get("/pet"));
+
+        copy.getComponents().getSchemas().get("Pet").getProperties().clear();
+        copy.getPaths().clear();
+        assertFalse(openAPI.getComponents().getSchemas().get("Pet").getProperties().isEmpty());
+        assertFalse(openAPI.getPaths().isEmpty());
+    }
+
+    @Test
+    public void sharedObjectsAreCopiedOnce() {
+        Schema<?> shared = new StringSchema();
+        OpenAPI openAPI = TestUtils.createOpenAPIWithOneSchema("Shared", new ObjectSchema()
+                .addProperty("first", shared)
+                .addProperty("second", shared));
+
+        Schema<?> copy = OpenAPICopier.copy(openAPI).getComponents().getSchemas().get("Shared");
+
+        assertNotSame(copy.getProperties().get("first"), shared);
+        assertSame(copy.getProperties().get("second"), copy.getProperties().get("first"));
+    }
+
+    @Test
+    public void keepsPropertiesSetBySetterSideEffects() {
+        // required names of inherited properties, and an explicit null example
+        Schema<?> schema = new ObjectSchema().required(List.of("inherited")).example(null);
+        OpenAPI openAPI = TestUtils.createOpenAPIWithOneSchema("Child", schema);
+
+        Schema<?> copy = OpenAPICopier.copy(openAPI).getComponents().getSchemas().get("Child");
+
+        assertEquals(copy.getRequired(), List.of("inherited"));
+        assertNull(copy.getExample());
+        assertTrue(copy.getExampleSetFlag());
+    }
+}
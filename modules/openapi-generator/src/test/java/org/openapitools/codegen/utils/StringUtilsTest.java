@@ -1,5 +1,6 @@
 package org.openapitools.codegen.utils;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -45,4 +46,22 @@ public class StringUtilsTest {
         Assert.assertEquals(dashize("Foo_Response__links"), "foo-response-links");
         Assert.assertEquals(dashize("Foo Response _links"), "foo-response-links");
     }
+
+    @Test
+    public void testNameHelpersUseBoundCaches() {
+        NameCaches caches = new NameCaches();
+        try (NameCaches.Scope ignored = caches.bind()) {
+            Assert.assertEquals(camelize("bound_value"), "BoundValue");
+            Assert.assertEquals(camelize("bound_value"), "BoundValue");
+            Assert.assertEquals(underscore("boundValue"), "bound_value");
+            Assert.assertSame(NameCaches.current(), caches);
+        }
+        Assert.assertNotSame(NameCaches.current(), caches);
+
+        CacheStats camelized = caches.stats().get(NameCaches.CAMELIZE);
+        Assert.assertEquals(camelized.missCount(), 1);
+        Assert.assertEquals(camelized.hitCount(), 1);
+        Assert.assertEquals(caches.stats().get(NameCaches.UNDERSCORE).requestCount(), 1);
+        Assert.assertFalse(caches.stats().containsKey(NameCaches.ESCAPE));
+    }
 }